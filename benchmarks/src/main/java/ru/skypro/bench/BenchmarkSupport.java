@@ -0,0 +1,117 @@
+package ru.skypro.bench;
+
+import ru.skypro.MyArrayList;
+import ru.skypro.MyLinkedList;
+import ru.skypro.MyUnrolledLinkedList;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Общие константы и фабрики для бенчмарков.
+ */
+final class BenchmarkSupport {
+
+    /**
+     * Флаги JVM, без которых MyArrayList не загружается (используется jdk.internal.util.ArraysSupport).
+     * Подставляются в {@code @Fork(jvmArgsAppend = ...)} каждого бенчмарка.
+     */
+    static final String ADD_EXPORTS_UTIL = "--add-exports=java.base/jdk.internal.util=ALL-UNNAMED";
+    static final String ADD_EXPORTS_ACCESS = "--add-exports=java.base/jdk.internal.access=ALL-UNNAMED";
+
+    /**
+     * Количество заранее вычисленных случайных индексов для операций позиционного доступа.
+     */
+    static final int INDEX_COUNT = 1 << 10;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Создает пустой список реализации impl.
+     */
+    static <E> List<E> newList(String impl) {
+        switch (impl) {
+            case "MyArrayList":
+                return new MyArrayList<>();
+            case "ArrayList":
+                return new ArrayList<>();
+            case "MyLinkedList":
+                return new MyLinkedList<>();
+            case "LinkedList":
+                return new LinkedList<>();
+            case "MyUnrolledLinkedList":
+                return new MyUnrolledLinkedList<>();
+            default:
+                throw new IllegalArgumentException("Неизвестная реализация: " + impl);
+        }
+    }
+
+    /**
+     * Возвращает поверхностную копию списка через его собственный clone().
+     */
+    static Object cloneList(List<?> list) {
+        if (list instanceof MyArrayList)
+            return ((MyArrayList<?>) list).clone();
+        if (list instanceof ArrayList)
+            return ((ArrayList<?>) list).clone();
+        if (list instanceof MyLinkedList)
+            return ((MyLinkedList<?>) list).clone();
+        if (list instanceof LinkedList)
+            return ((LinkedList<?>) list).clone();
+        if (list instanceof MyUnrolledLinkedList)
+            return ((MyUnrolledLinkedList<?>) list).clone();
+        throw new IllegalArgumentException("Неизвестная реализация: " + list.getClass());
+    }
+
+    /**
+     * Создает массив из size различных элементов типа type ("Integer" или "String").
+     */
+    static Object[] elements(String type, int size) {
+        Object[] es = new Object[size];
+        switch (type) {
+            case "Integer":
+                for (int i = 0; i < size; i++)
+                    es[i] = i;
+                break;
+            case "String":
+                for (int i = 0; i < size; i++)
+                    es[i] = "element-" + i;
+                break;
+            default:
+                throw new IllegalArgumentException("Неизвестный тип элементов: " + type);
+        }
+        return es;
+    }
+
+    /**
+     * Возвращает INDEX_COUNT случайных индексов из диапазона [0, bound) с фиксированным зерном.
+     */
+    static int[] randomIndexes(int bound) {
+        Random random = new Random(42);
+        int[] indexes = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++)
+            indexes[i] = random.nextInt(bound);
+        return indexes;
+    }
+
+    /**
+     * Сериализует объект в массив байт стандартной сериализацией Java.
+     */
+    static byte[] serialize(Object o) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(o);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Восстанавливает объект из массива байт.
+     */
+    static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
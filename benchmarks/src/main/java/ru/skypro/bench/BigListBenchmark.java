@@ -0,0 +1,60 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.MyArrayList;
+import ru.skypro.MyBigArrayList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Заполнение списка добавлением в конец и параллельная сумма: MyArrayList (рост с копированием
+ * всего массива) против MyBigArrayList (рост выделением блока). Каждый вызов заполняет новый список,
+ * поэтому в результат входят все перевыделения; паузы сборщика видны в счетчиках GCProfiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS, "-Xmx4g"})
+public class BigListBenchmark {
+
+    static final Integer TOKEN = 1;
+
+    @Param({"MyArrayList", "MyBigArrayList"})
+    String impl;
+
+    @Param({"1000000", "50000000"})
+    int size;
+
+    List<Integer> filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filled = append();
+    }
+
+    private List<Integer> newList() {
+        return "MyBigArrayList".equals(impl) ? new MyBigArrayList<>() : new MyArrayList<>();
+    }
+
+    private List<Integer> append() {
+        List<Integer> list = newList();
+        for (int i = 0; i < size; i++)
+            list.add(TOKEN);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> appendAll() {
+        return append();
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return filled.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
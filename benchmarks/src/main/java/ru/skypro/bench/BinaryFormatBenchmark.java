@@ -0,0 +1,97 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.ElementCodec;
+import ru.skypro.MyArrayList;
+import ru.skypro.MyLinkedList;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Стандартная сериализация Java против двоичного формата writeTo/readFrom с ElementCodec
+ * для MyArrayList и MyLinkedList. Размер результата в байтах выводится как вспомогательный счетчик.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class BinaryFormatBenchmark {
+
+    @Param({"MyArrayList", "MyLinkedList"})
+    String impl;
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    @Param({"Integer", "String"})
+    String type;
+
+    List<Object> list;
+    ElementCodec<Object> codec;
+    byte[] serialized;
+    byte[] binary;
+
+    /**
+     * Размер результата последнего вызова в байтах.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Bytes {
+        public long bytes;
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        list = newList(impl);
+        list.addAll(Arrays.asList(elements(type, size)));
+        codec = (ElementCodec<Object>) (ElementCodec<?>) ("Integer".equals(type) ? ElementCodec.ofInt() : ElementCodec.ofString());
+        serialized = serialize(list);
+        binary = writeBinary();
+    }
+
+    private byte[] writeBinary() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(bytes, 1 << 16))) {
+            if (list instanceof MyArrayList)
+                ((MyArrayList<Object>) list).writeTo(out, codec);
+            else
+                ((MyLinkedList<Object>) list).writeTo(out, codec);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] javaWrite(Bytes counter) throws IOException {
+        byte[] b = serialize(list);
+        counter.bytes = b.length;
+        return b;
+    }
+
+    @Benchmark
+    public byte[] codecWrite(Bytes counter) throws IOException {
+        byte[] b = writeBinary();
+        counter.bytes = b.length;
+        return b;
+    }
+
+    @Benchmark
+    public Object javaRead() throws IOException, ClassNotFoundException {
+        return deserialize(serialized);
+    }
+
+    @Benchmark
+    public Object codecRead() throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new ByteArrayInputStream(binary), 1 << 16));
+        return (list instanceof MyArrayList)
+                ? MyArrayList.readFrom(in, codec)
+                : MyLinkedList.readFrom(in, codec);
+    }
+}
@@ -0,0 +1,67 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.MyArrayDeque;
+import ru.skypro.MyLinkedList;
+
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Очередь в установившемся режиме: MyLinkedList (узел на каждое добавление) против MyArrayDeque
+ * (кольцевой массив). Размер очереди между вызовами постоянен; выделение памяти на операцию
+ * видно в счетчике gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class DequeBenchmark {
+
+    static final Integer TOKEN = 1;
+
+    @Param({"MyLinkedList", "MyArrayDeque", "MyArrayDeque.slidingWindow"})
+    String impl;
+
+    @Param({"16", "10000"})
+    int size;
+
+    Deque<Integer> deque;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (impl) {
+            case "MyLinkedList":
+                deque = new MyLinkedList<>();
+                break;
+            case "MyArrayDeque":
+                deque = new MyArrayDeque<>();
+                break;
+            default:
+                deque = MyArrayDeque.slidingWindow(size);
+        }
+        for (int i = 0; i < size; i++)
+            deque.offerLast(TOKEN);
+    }
+
+    @Benchmark
+    public Integer offerLastPollFirst() {
+        if (deque instanceof MyArrayDeque && ((MyArrayDeque<Integer>) deque).isSlidingWindow()) {
+            // окно само вытесняет первый элемент
+            deque.offerLast(TOKEN);
+            return deque.peekFirst();
+        }
+        deque.offerLast(TOKEN);
+        return deque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        deque.push(TOKEN);
+        return deque.pop();
+    }
+}
@@ -0,0 +1,63 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.MyArrayList;
+import ru.skypro.MyGapList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Вставка и удаление рядом с медленно движущимся курсором в начале большого списка:
+ * MyArrayList (сдвиг всего хвоста) против MyGapList (перенос разрыва на расстояние до курсора).
+ * Каждый вызов вставляет элемент у курсора и удаляет его, поэтому размер списка не меняется.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class GapListBenchmark {
+
+    @Param({"MyArrayList", "MyGapList"})
+    String impl;
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    List<Object> list;
+    Object[] elements;
+    int cursor;
+    int step;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = elements("Integer", size);
+        list = "MyGapList".equals(impl) ? new MyGapList<>() : new MyArrayList<>();
+        list.addAll(java.util.Arrays.asList(elements));
+    }
+
+    /**
+     * Курсор ходит туда и обратно по первым 64 позициям.
+     */
+    private int nextCursor() {
+        final int c = cursor;
+        cursor = (step++ & 64) == 0 ? c + 1 : c - 1;
+        return c;
+    }
+
+    @Benchmark
+    public Object insertAndRemoveAtCursor() {
+        final int i = nextCursor();
+        list.add(i, elements[i]);
+        return list.remove(i);
+    }
+
+    @Benchmark
+    public Object getNearEnd() {
+        return list.get(size - 1 - (step++ & 63));
+    }
+}
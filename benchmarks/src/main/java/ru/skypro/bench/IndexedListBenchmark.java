@@ -0,0 +1,72 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.MyArrayList;
+import ru.skypro.MyIndexedArrayList;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Поиск по значению: линейный просмотр MyArrayList против хеш-индекса MyIndexedArrayList.
+ * Индекс строится в setUp, поэтому в замер входит только сам поиск и поддержка индекса
+ * при добавлении в конец.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class IndexedListBenchmark {
+
+    @Param({"MyArrayList", "MyIndexedArrayList"})
+    String impl;
+
+    @Param({"1000", "500000"})
+    int size;
+
+    List<Object> list;
+    Object[] probes;
+    int step;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Object[] elements = elements("Integer", size);
+        list = "MyIndexedArrayList".equals(impl) ? new MyIndexedArrayList<>() : new MyArrayList<>();
+        list.addAll(Arrays.asList(elements));
+        // половина проб попадает в список, половина промахивается
+        int[] indexes = randomIndexes(2 * size);
+        probes = new Object[indexes.length];
+        for (int i = 0; i < indexes.length; i++)
+            probes[i] = indexes[i];
+        list.contains(probes[0]);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(probes[step++ & (INDEX_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public int lastIndexOf() {
+        return list.lastIndexOf(probes[step++ & (INDEX_COUNT - 1)]);
+    }
+
+    /**
+     * Цикл удаления дубликатов: добавляет пробу, если ее еще нет, и сразу убирает последний
+     * элемент, чтобы размер списка не менялся.
+     */
+    @Benchmark
+    public boolean dedupStep() {
+        final Object p = probes[step++ & (INDEX_COUNT - 1)];
+        if (list.contains(p))
+            return false;
+        list.add(p);
+        list.remove(list.size() - 1);
+        return true;
+    }
+}
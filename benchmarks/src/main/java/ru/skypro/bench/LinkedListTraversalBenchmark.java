@@ -0,0 +1,77 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Обход и память связных списков: MyLinkedList (с пальцами в node(int)),
+ * MyUnrolledLinkedList и java.util.LinkedList.
+ *
+ * build измеряет занимаемую списком память: при запуске через BenchmarkRunner
+ * gc.alloc.rate.norm показывает байты на построение списка из size элементов.
+ * indexedLoop обходит список через get(i) и nearSequentialLoop — через get(i) с шагом вперед-назад;
+ * для MyLinkedList оба должны расти линейно по size, а не квадратично.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class LinkedListTraversalBenchmark {
+
+    @Param({"MyLinkedList", "MyUnrolledLinkedList", "LinkedList"})
+    String impl;
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    Object[] elements;
+    List<Object> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = elements("Integer", size);
+        list = newList(impl);
+        list.addAll(Arrays.asList(elements));
+    }
+
+    @Benchmark
+    public List<Object> build() {
+        List<Object> l = newList(impl);
+        for (Object e : elements)
+            l.add(e);
+        return l;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Object e : list)
+            bh.consume(e);
+    }
+
+    @Benchmark
+    public void indexedLoop(Blackhole bh) {
+        for (int i = 0, n = list.size(); i < n; i++)
+            bh.consume(list.get(i));
+    }
+
+    @Benchmark
+    public void nearSequentialLoop(Blackhole bh) {
+        for (int i = 1, n = list.size(); i < n; i += 2) {
+            bh.consume(list.get(i));
+            bh.consume(list.get(i - 1));
+        }
+    }
+
+    @Benchmark
+    public int indexOfMissing() {
+        return list.indexOf(-1);
+    }
+}
@@ -0,0 +1,123 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Сравнение MyArrayList и MyLinkedList с java.util.ArrayList и java.util.LinkedList
+ * на основных операциях списка.
+ *
+ * Операции, меняющие размер (remove), выполняются в паре с обратной операцией,
+ * чтобы размер списка между вызовами оставался постоянным.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class ListOperationsBenchmark {
+
+    @Param({"MyArrayList", "ArrayList", "MyLinkedList", "LinkedList"})
+    String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"Integer", "String"})
+    String type;
+
+    Object[] elements;
+    List<Object> list;
+    int[] indexes;
+    int next;
+    byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        elements = elements(type, size);
+        list = newList(impl);
+        list.addAll(Arrays.asList(elements));
+        indexes = randomIndexes(size);
+        serialized = serialize(list);
+    }
+
+    private int nextIndex() {
+        return indexes[next++ & (INDEX_COUNT - 1)];
+    }
+
+    @Benchmark
+    public List<Object> addAppend() {
+        List<Object> l = newList(impl);
+        for (Object e : elements)
+            l.add(e);
+        return l;
+    }
+
+    @Benchmark
+    public Object get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Object set() {
+        int i = nextIndex();
+        return list.set(i, elements[i]);
+    }
+
+    @Benchmark
+    public Object removeIndexAndAddBack() {
+        int i = nextIndex();
+        Object e = list.remove(i);
+        list.add(i, e);
+        return e;
+    }
+
+    @Benchmark
+    public boolean removeObjectAndAddBack() {
+        Object e = elements[nextIndex()];
+        boolean removed = list.remove(e);
+        list.add(e);
+        return removed;
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(elements[nextIndex()]);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Object e : list)
+            bh.consume(e);
+    }
+
+    @Benchmark
+    public List<Object> addAll() {
+        List<Object> l = newList(impl);
+        l.addAll(list);
+        return l;
+    }
+
+    @Benchmark
+    public Object cloneList() {
+        return BenchmarkSupport.cloneList(list);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return serialize(list);
+    }
+
+    @Benchmark
+    public Object deserializeList() throws IOException, ClassNotFoundException {
+        return deserialize(serialized);
+    }
+}
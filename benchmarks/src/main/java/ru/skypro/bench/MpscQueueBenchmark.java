@@ -0,0 +1,162 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.Control;
+import ru.skypro.MyLinkedList;
+import ru.skypro.MyMpscLinkedQueue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Пропускная способность очереди при 1, 4, 16 и 64 производителях и одном потребителе:
+ * MyMpscLinkedQueue против MyLinkedList под общей блокировкой (как очередь используется сейчас).
+ *
+ * Очереди неограниченные, поэтому производитель раз в 1024 операции сверяет свою оценку
+ * отставания потребителя и ждет, если в очереди больше MAX_BACKLOG элементов.
+ * Потребитель забирает элементы пачками через drain.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class MpscQueueBenchmark {
+
+    static final int MAX_BACKLOG = 1 << 20;
+    static final int DRAIN_BATCH = 256;
+    static final Object TOKEN = new Object();
+
+    /**
+     * Общая для группы очередь.
+     */
+    @State(Scope.Group)
+    public static class QueueState {
+        @Param({"MyMpscLinkedQueue", "LockedMyLinkedList"})
+        String impl;
+
+        MyMpscLinkedQueue<Object> mpsc;
+        LockedQueue locked;
+        volatile long consumed;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            mpsc = "MyMpscLinkedQueue".equals(impl) ? new MyMpscLinkedQueue<>() : null;
+            locked = (mpsc == null) ? new LockedQueue() : null;
+            consumed = 0;
+        }
+
+        void offer(ProducerState p, int producers, Control control) {
+            if ((++p.offered & 1023) == 0) {
+                while (p.offered * producers - consumed > MAX_BACKLOG && !control.stopMeasurement)
+                    Thread.onSpinWait();
+            }
+            if (mpsc != null)
+                mpsc.offer(TOKEN);
+            else
+                locked.offer(TOKEN);
+        }
+
+        int drain(Blackhole bh) {
+            int n = (mpsc != null) ? mpsc.drain(bh::consume, DRAIN_BATCH) : locked.drain(bh::consume, DRAIN_BATCH);
+            if (n == 0)
+                Thread.onSpinWait();
+            else
+                consumed += n;
+            return n;
+        }
+    }
+
+    /**
+     * Счетчик добавлений одного производителя.
+     */
+    @State(Scope.Thread)
+    public static class ProducerState {
+        long offered;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            offered = 0;
+        }
+    }
+
+    /**
+     * MyLinkedList с внешней синхронизацией вокруг linkLast/unlinkFirst.
+     */
+    static final class LockedQueue {
+        private final MyLinkedList<Object> list = new MyLinkedList<>();
+
+        synchronized void offer(Object e) {
+            list.offer(e);
+        }
+
+        synchronized int drain(Consumer<Object> action, int limit) {
+            int n = 0;
+            Object e;
+            while (n < limit && (e = list.poll()) != null) {
+                action.accept(e);
+                n++;
+            }
+            return n;
+        }
+    }
+
+    @Benchmark
+    @Group("p1")
+    @GroupThreads(1)
+    public void offer1(QueueState q, ProducerState p, Control control) {
+        q.offer(p, 1, control);
+    }
+
+    @Benchmark
+    @Group("p1")
+    @GroupThreads(1)
+    public int drain1(QueueState q, Blackhole bh) {
+        return q.drain(bh);
+    }
+
+    @Benchmark
+    @Group("p4")
+    @GroupThreads(4)
+    public void offer4(QueueState q, ProducerState p, Control control) {
+        q.offer(p, 4, control);
+    }
+
+    @Benchmark
+    @Group("p4")
+    @GroupThreads(1)
+    public int drain4(QueueState q, Blackhole bh) {
+        return q.drain(bh);
+    }
+
+    @Benchmark
+    @Group("p16")
+    @GroupThreads(16)
+    public void offer16(QueueState q, ProducerState p, Control control) {
+        q.offer(p, 16, control);
+    }
+
+    @Benchmark
+    @Group("p16")
+    @GroupThreads(1)
+    public int drain16(QueueState q, Blackhole bh) {
+        return q.drain(bh);
+    }
+
+    @Benchmark
+    @Group("p64")
+    @GroupThreads(64)
+    public void offer64(QueueState q, ProducerState p, Control control) {
+        q.offer(p, 64, control);
+    }
+
+    @Benchmark
+    @Group("p64")
+    @GroupThreads(1)
+    public int drain64(QueueState q, Blackhole bh) {
+        return q.drain(bh);
+    }
+}
@@ -0,0 +1,69 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.MyArrayList;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Линейные просмотры MyArrayList: последовательные indexOf, hashCode и equals против parallel*
+ * вариантов на ForkJoinPool. Искомый элемент стоит в конце списка, чтобы просмотр был полным.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class ParallelScanBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    int size;
+
+    MyArrayList<Object> list;
+    MyArrayList<Object> copy;
+    Object last;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Object[] elements = elements("Integer", size);
+        list = new MyArrayList<>();
+        list.addAll(Arrays.asList(elements));
+        copy = new MyArrayList<>();
+        copy.addAll(Arrays.asList(elements));
+        last = elements[size - 1];
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(last);
+    }
+
+    @Benchmark
+    public int parallelIndexOf() {
+        return list.parallelIndexOf(last);
+    }
+
+    @Benchmark
+    public int hashCodeSequential() {
+        return list.hashCode();
+    }
+
+    @Benchmark
+    public int parallelHashCode() {
+        return list.parallelHashCode();
+    }
+
+    @Benchmark
+    public boolean equalsSequential() {
+        return list.equals(copy);
+    }
+
+    @Benchmark
+    public boolean parallelEquals() {
+        return list.parallelEquals(copy);
+    }
+}
@@ -0,0 +1,46 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Масштабирование параллельных стримов: индексный spliterator MyArrayList
+ * против java.util.ArrayList на одинаковой агрегации.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class ParallelStreamBenchmark {
+
+    @Param({"MyArrayList", "ArrayList"})
+    String impl;
+
+    @Param({"100000", "1000000", "10000000"})
+    int size;
+
+    List<Object> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = newList(impl);
+        list.addAll(Arrays.asList(elements("Integer", size)));
+    }
+
+    @Benchmark
+    public long sequentialSum() {
+        return list.stream().mapToLong(e -> (Integer) e).sum();
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return list.parallelStream().mapToLong(e -> (Integer) e).sum();
+    }
+}
@@ -0,0 +1,59 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.MyLinkedList;
+
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Слияние шардов MyLinkedList в один список: addAll (toArray и новый узел на каждый элемент)
+ * против spliceLast (перевязка крайних узлов). Шарды пересоздаются перед каждым вызовом,
+ * так как оба способа рассчитаны на одноразовые шарды.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class ShardMergeBenchmark {
+
+    static final Integer TOKEN = 1;
+
+    @Param({"16"})
+    int shardCount;
+
+    @Param({"1000", "100000"})
+    int shardSize;
+
+    MyLinkedList<Integer>[] shards;
+
+    @Setup(Level.Invocation)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        shards = (MyLinkedList<Integer>[]) new MyLinkedList<?>[shardCount];
+        for (int s = 0; s < shardCount; s++) {
+            shards[s] = new MyLinkedList<>();
+            for (int i = 0; i < shardSize; i++)
+                shards[s].add(TOKEN);
+        }
+    }
+
+    @Benchmark
+    public MyLinkedList<Integer> addAll() {
+        MyLinkedList<Integer> merged = new MyLinkedList<>();
+        for (MyLinkedList<Integer> shard : shards)
+            merged.addAll(shard);
+        return merged;
+    }
+
+    @Benchmark
+    public MyLinkedList<Integer> spliceLast() {
+        MyLinkedList<Integer> merged = new MyLinkedList<>();
+        for (MyLinkedList<Integer> shard : shards)
+            merged.spliceLast(shard);
+        return merged;
+    }
+}
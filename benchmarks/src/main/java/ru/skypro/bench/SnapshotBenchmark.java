@@ -0,0 +1,66 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.MyArrayList;
+import ru.skypro.MyPersistentVector;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Публикация снимка после каждого изменения: clone() MyArrayList с последующим set
+ * против MyPersistentVector.with (копия пути от корня до листа). Затраты памяти на снимок
+ * видны в счетчике gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class SnapshotBenchmark {
+
+    static final Integer TOKEN = 1;
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    MyArrayList<Object> list;
+    MyPersistentVector<Object> vector;
+    int[] indexes;
+    int step;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Object[] elements = elements("Integer", size);
+        list = new MyArrayList<>();
+        list.addAll(Arrays.asList(elements));
+        vector = MyPersistentVector.fromMyArrayList(list);
+        indexes = randomIndexes(size);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object cloneAndSet() {
+        MyArrayList<Object> snapshot = (MyArrayList<Object>) list.clone();
+        snapshot.set(indexes[step++ & (INDEX_COUNT - 1)], TOKEN);
+        return snapshot;
+    }
+
+    @Benchmark
+    public Object persistentWith() {
+        return vector.with(indexes[step++ & (INDEX_COUNT - 1)], TOKEN);
+    }
+
+    @Benchmark
+    public Object persistentPlus() {
+        return vector.plus(TOKEN);
+    }
+
+    @Benchmark
+    public Object persistentGet() {
+        return vector.get(indexes[step++ & (INDEX_COUNT - 1)]);
+    }
+}
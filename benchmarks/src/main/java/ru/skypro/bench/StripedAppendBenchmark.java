@@ -0,0 +1,63 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+import ru.skypro.MyArrayList;
+import ru.skypro.MyStripedAppender;
+
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Многопоточное добавление в конец: общий MyArrayList под synchronized
+ * против MyStripedAppender (с упорядочиванием и без).
+ *
+ * Каждая итерация начинается с пустого списка; за итерацию каждый поток выполняет batchSize добавлений,
+ * поэтому результат — время добавления пачки. Сборка сегментов (merge) выполняется в TearDown
+ * и в измерение не входит. Число потоков задается параметром -t (по умолчанию 4).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = StripedAppendBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = StripedAppendBenchmark.BATCH)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class StripedAppendBenchmark {
+
+    static final int BATCH = 1 << 20;
+    static final Object TOKEN = new Object();
+
+    @Param({"synchronized", "striped", "stripedOrdered"})
+    String impl;
+
+    MyArrayList<Object> shared;
+    MyStripedAppender<Object> appender;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        shared = new MyArrayList<>();
+        appender = switch (impl) {
+            case "striped" -> new MyStripedAppender<>();
+            case "stripedOrdered" -> MyStripedAppender.ordered();
+            default -> null;
+        };
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (appender != null)
+            appender.merge();
+    }
+
+    @Benchmark
+    public void add() {
+        if (appender != null) {
+            appender.add(TOKEN);
+        } else {
+            synchronized (shared) {
+                shared.add(TOKEN);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ru.skypro.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.skypro.bench.BenchmarkSupport.*;
+
+/**
+ * Постраничный обход большого списка окнами subList(from, from + window):
+ * индексный цикл по окну, итератор, toArray и hashCode окна.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {ADD_EXPORTS_UTIL, ADD_EXPORTS_ACCESS})
+public class SubListBenchmark {
+
+    @Param({"MyArrayList", "ArrayList"})
+    String impl;
+
+    @Param({"1000000"})
+    int size;
+
+    @Param({"100"})
+    int window;
+
+    List<Object> list;
+    int page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = newList(impl);
+        list.addAll(Arrays.asList(elements("Integer", size)));
+    }
+
+    private List<Object> nextWindow() {
+        int from = page;
+        page = (from + window <= size - window) ? from + window : 0;
+        return list.subList(from, from + window);
+    }
+
+    @Benchmark
+    public long indexedLoop() {
+        final List<Object> w = nextWindow();
+        long sum = 0;
+        for (int i = 0, n = w.size(); i < n; i++)
+            sum += (Integer) w.get(i);
+        return sum;
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Object e : nextWindow())
+            sum += (Integer) e;
+        return sum;
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return nextWindow().toArray();
+    }
+
+    @Benchmark
+    public int windowHashCode() {
+        return nextWindow().hashCode();
+    }
+}
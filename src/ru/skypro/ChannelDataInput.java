@@ -0,0 +1,165 @@
+package ru.skypro;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * DataInput, читающий из блокирующего ReadableByteChannel через промежуточный ByteBuffer.
+ * Канал читается с опережением; {@link #release()} возвращает позицию SeekableByteChannel
+ * на первый непрочитанный байт, чтобы за списком в том же канале можно было читать другие данные.
+ */
+final class ChannelDataInput implements DataInput {
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    ChannelDataInput(ReadableByteChannel channel) {
+        this(channel, ChannelDataOutput.DEFAULT_BUFFER_SIZE);
+    }
+
+    ChannelDataInput(ReadableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize).flip();
+    }
+
+    /**
+     * Возвращает буфер, в котором доступно не меньше n байт (n не больше емкости буфера).
+     *
+     * @throws EOFException если канал закончился раньше
+     */
+    private ByteBuffer require(int n) throws IOException {
+        while (buffer.remaining() < n)
+            fill();
+        return buffer;
+    }
+
+    /**
+     * Дочитывает из канала в свободную часть буфера.
+     */
+    private void fill() throws IOException {
+        buffer.compact();
+        final int r;
+        try {
+            r = channel.read(buffer);
+        } finally {
+            buffer.flip();
+        }
+        if (r < 0)
+            throw new EOFException();
+    }
+
+    /**
+     * Возвращает в канал байты, прочитанные с опережением, если канал поддерживает позиционирование.
+     */
+    void release() throws IOException {
+        if (buffer.hasRemaining() && channel instanceof SeekableByteChannel) {
+            final SeekableByteChannel sc = (SeekableByteChannel) channel;
+            sc.position(sc.position() - buffer.remaining());
+            buffer.position(buffer.limit());
+        }
+    }
+
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (!buffer.hasRemaining())
+                fill();
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    public int skipBytes(int n) throws IOException {
+        int skipped = 0;
+        try {
+            while (skipped < n) {
+                if (!buffer.hasRemaining())
+                    fill();
+                final int k = Math.min(n - skipped, buffer.remaining());
+                buffer.position(buffer.position() + k);
+                skipped += k;
+            }
+        } catch (EOFException e) {
+            // skipBytes возвращает фактически пропущенное количество
+        }
+        return skipped;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return require(1).get() != 0;
+    }
+
+    public byte readByte() throws IOException {
+        return require(1).get();
+    }
+
+    public int readUnsignedByte() throws IOException {
+        return require(1).get() & 0xFF;
+    }
+
+    public short readShort() throws IOException {
+        return require(Short.BYTES).getShort();
+    }
+
+    public int readUnsignedShort() throws IOException {
+        return require(Short.BYTES).getShort() & 0xFFFF;
+    }
+
+    public char readChar() throws IOException {
+        return require(Character.BYTES).getChar();
+    }
+
+    public int readInt() throws IOException {
+        return require(Integer.BYTES).getInt();
+    }
+
+    public long readLong() throws IOException {
+        return require(Long.BYTES).getLong();
+    }
+
+    public float readFloat() throws IOException {
+        return require(Float.BYTES).getFloat();
+    }
+
+    public double readDouble() throws IOException {
+        return require(Double.BYTES).getDouble();
+    }
+
+    /**
+     * Читает строку до '\n' (или "\r\n"), интерпретируя байты как символы Latin-1, как DataInputStream.readLine.
+     */
+    public String readLine() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            for (;;) {
+                final int c = readUnsignedByte();
+                if (c == '\n')
+                    break;
+                if (c == '\r') {
+                    if (require(1).get(buffer.position()) == '\n')
+                        buffer.get();
+                    break;
+                }
+                sb.append((char) c);
+            }
+        } catch (EOFException e) {
+            if (sb.length() == 0)
+                return null;
+        }
+        return sb.toString();
+    }
+
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+}
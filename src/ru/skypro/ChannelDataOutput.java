@@ -0,0 +1,125 @@
+package ru.skypro;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * DataOutput, пишущий в WritableByteChannel через промежуточный ByteBuffer.
+ * Примитивы кладутся в буфер одной операцией put, буфер сбрасывается в канал целиком при заполнении
+ * и при вызове {@link #flush()}. Порядок байтов — big-endian, как требует DataOutput.
+ */
+final class ChannelDataOutput implements DataOutput, Flushable {
+
+    static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    ChannelDataOutput(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    ChannelDataOutput(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Возвращает буфер, в котором свободно не меньше n байт.
+     */
+    private ByteBuffer ensure(int n) throws IOException {
+        if (buffer.remaining() < n)
+            drain();
+        return buffer;
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Записывает содержимое буфера в канал. Сам канал не закрывается.
+     */
+    public void flush() throws IOException {
+        drain();
+    }
+
+    public void write(int b) throws IOException {
+        ensure(1).put((byte) b);
+    }
+
+    public void write(byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len > buffer.remaining()) {
+            drain();
+            // Большие массивы пишем в канал напрямую, минуя буфер
+            if (len > buffer.capacity()) {
+                final ByteBuffer src = ByteBuffer.wrap(b, off, len);
+                while (src.hasRemaining())
+                    channel.write(src);
+                return;
+            }
+        }
+        buffer.put(b, off, len);
+    }
+
+    public void writeBoolean(boolean v) throws IOException {
+        ensure(1).put((byte) (v ? 1 : 0));
+    }
+
+    public void writeByte(int v) throws IOException {
+        ensure(1).put((byte) v);
+    }
+
+    public void writeShort(int v) throws IOException {
+        ensure(Short.BYTES).putShort((short) v);
+    }
+
+    public void writeChar(int v) throws IOException {
+        ensure(Character.BYTES).putChar((char) v);
+    }
+
+    public void writeInt(int v) throws IOException {
+        ensure(Integer.BYTES).putInt(v);
+    }
+
+    public void writeLong(long v) throws IOException {
+        ensure(Long.BYTES).putLong(v);
+    }
+
+    public void writeFloat(float v) throws IOException {
+        ensure(Float.BYTES).putFloat(v);
+    }
+
+    public void writeDouble(double v) throws IOException {
+        ensure(Double.BYTES).putDouble(v);
+    }
+
+    public void writeBytes(String s) throws IOException {
+        for (int i = 0, n = s.length(); i < n; i++)
+            writeByte(s.charAt(i));
+    }
+
+    public void writeChars(String s) throws IOException {
+        for (int i = 0, n = s.length(); i < n; i++)
+            writeChar(s.charAt(i));
+    }
+
+    public void writeUTF(String s) throws IOException {
+        // Модифицированный UTF-8 кодирует DataOutputStream
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(s.length() + 2);
+        new DataOutputStream(bytes).writeUTF(s);
+        write(bytes.toByteArray());
+    }
+}
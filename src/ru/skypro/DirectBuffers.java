@@ -0,0 +1,48 @@
+package ru.skypro;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Освобождение памяти прямых и отображенных (mapped) буферов без ожидания сборщика мусора.
+ */
+final class DirectBuffers {
+
+    /**
+     * sun.misc.Unsafe.invokeCleaner(ByteBuffer), привязанный к экземпляру Unsafe. Класс ищется по имени,
+     * чтобы исходники не ссылались на внутренний API напрямую и компилировались без предупреждений.
+     */
+    private static final MethodHandle INVOKE_CLEANER;
+    static {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field f = unsafeClass.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            INVOKE_CLEANER = MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(f.get(null));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Немедленно освобождает память прямого буфера. После вызова буфер и все его копии
+     * (duplicate, slice) использовать нельзя.
+     */
+    static void free(ByteBuffer buffer) {
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
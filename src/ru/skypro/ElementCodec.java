@@ -0,0 +1,104 @@
+package ru.skypro;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Кодек элементов для двоичного формата MyArrayList и MyLinkedList
+ * (см. MyArrayList.writeTo и MyArrayList.readFrom).
+ *
+ * В отличие от RecordCodec, длина закодированного элемента может быть переменной:
+ * элемент пишется в DataOutput и читается из DataInput.
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Записывает value в out.
+     */
+    void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * Читает элемент, записанный методом write.
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Кодек для String: длина в байтах UTF-8 (-1 для null), затем сами байты.
+     * В отличие от DataOutput.writeUTF, длина строки не ограничена 65535 байтами.
+     */
+    static ElementCodec<String> ofString() {
+        return new ElementCodec<>() {
+            public void write(String value, DataOutput out) throws IOException {
+                if (value == null) {
+                    out.writeInt(-1);
+                    return;
+                }
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            public String read(DataInput in) throws IOException {
+                final int length = in.readInt();
+                if (length < 0)
+                    return null;
+                final byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Кодек для Integer (4 байта). Элементы null не поддерживаются.
+     */
+    static ElementCodec<Integer> ofInt() {
+        return new ElementCodec<>() {
+            public void write(Integer value, DataOutput out) throws IOException { out.writeInt(value); }
+            public Integer read(DataInput in) throws IOException { return in.readInt(); }
+        };
+    }
+
+    /**
+     * Кодек для Long (8 байт). Элементы null не поддерживаются.
+     */
+    static ElementCodec<Long> ofLong() {
+        return new ElementCodec<>() {
+            public void write(Long value, DataOutput out) throws IOException { out.writeLong(value); }
+            public Long read(DataInput in) throws IOException { return in.readLong(); }
+        };
+    }
+
+    /**
+     * Кодек для Double (8 байт). Элементы null не поддерживаются.
+     */
+    static ElementCodec<Double> ofDouble() {
+        return new ElementCodec<>() {
+            public void write(Double value, DataOutput out) throws IOException { out.writeDouble(value); }
+            public Double read(DataInput in) throws IOException { return in.readDouble(); }
+        };
+    }
+
+    /**
+     * Кодек поверх RecordCodec: каждая запись занимает recordSize байт.
+     * Возвращаемый кодек использует общий промежуточный буфер и не потокобезопасен.
+     */
+    static <T> ElementCodec<T> of(RecordCodec<T> codec) {
+        final byte[] bytes = new byte[codec.recordSize()];
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new ElementCodec<>() {
+            public void write(T value, DataOutput out) throws IOException {
+                codec.write(value, buffer, 0);
+                out.write(bytes);
+            }
+
+            public T read(DataInput in) throws IOException {
+                in.readFully(bytes);
+                return codec.read(buffer, 0);
+            }
+        };
+    }
+}
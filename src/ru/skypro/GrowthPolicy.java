@@ -0,0 +1,219 @@
+package ru.skypro;
+
+/**
+ * Стратегия изменения емкости MyArrayList.
+ *
+ * Политика сообщает предпочтительный прирост емкости при переполнении массива,
+ * начальную емкость при первом добавлении и, при необходимости, новую (меньшую) емкость
+ * после удаления элементов. Итоговую длину массива вычисляет MyArrayList.grow,
+ * поэтому политика не обязана заботиться о переполнении int и о минимально необходимой емкости.
+ *
+ * Один экземпляр политики можно разделять между несколькими списками. При клонировании список
+ * получает политику через {@link #copy()}, поэтому политика с состоянием не связывает копию с оригиналом.
+ */
+public abstract class GrowthPolicy implements java.io.Serializable {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     Дефолтный размер списка при первом добавлении элемента
+     */
+    static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Возвращает предпочтительный прирост емкости массива длины oldCapacity,
+     * в который требуется поместить minCapacity элементов.
+     */
+    public abstract int preferredGrowth(int oldCapacity, int minCapacity);
+
+    /**
+     * Возвращает емкость массива, создаваемого при первом добавлении в список,
+     * созданный конструктором по умолчанию.
+     */
+    public int initialCapacity(int minCapacity) {
+        return Math.max(DEFAULT_CAPACITY, minCapacity);
+    }
+
+    /**
+     * Возвращает новую емкость массива после удаления элементов.
+     * Значение, не меньшее capacity, означает, что массив не уменьшается.
+     * По умолчанию массив не уменьшается.
+     */
+    public int shrinkCapacity(int capacity, int size) {
+        return capacity;
+    }
+
+    /**
+     * Возвращает политику для копии списка, созданной clone(). Политики без состояния возвращают себя;
+     * политика с накапливаемым состоянием должна вернуть независимый экземпляр, начинающий с текущего
+     * состояния, чтобы изменения копии не влияли на оригинал и наоборот.
+     */
+    protected GrowthPolicy copy() {
+        return this;
+    }
+
+    /**
+     * Возвращает политику, увеличивающую емкость в полтора раза (поведение MyArrayList по умолчанию).
+     */
+    public static GrowthPolicy oneAndHalf() {
+        return OneAndHalf.INSTANCE;
+    }
+
+    /**
+     * Возвращает политику, удваивающую емкость.
+     */
+    public static GrowthPolicy doubling() {
+        return Doubling.INSTANCE;
+    }
+
+    /**
+     * Возвращает политику, увеличивающую емкость на фиксированное количество элементов.
+     *
+     * @throws IllegalArgumentException если step < 1
+     */
+    public static GrowthPolicy fixedStep(int step) {
+        return new FixedStep(step);
+    }
+
+    /**
+     * Возвращает политику, увеличивающую емкость в полтора раза, но не более чем на maxStep элементов за раз.
+     *
+     * @throws IllegalArgumentException если maxStep < 1
+     */
+    public static GrowthPolicy capped(int maxStep) {
+        return new Capped(maxStep);
+    }
+
+    /**
+     * Возвращает политику, запоминающую наибольшую емкость, которая потребовалась спискам с этой политикой,
+     * и сразу выделяющую такую емкость новым спискам. Предназначена для того, чтобы хранить
+     * один экземпляр на место создания списков (например, в статическом поле).
+     * Копия списка (clone) получает собственный экземпляр с уже накопленной емкостью.
+     */
+    public static GrowthPolicy learned() {
+        return new Learned();
+    }
+
+    /**
+     * Возвращает политику, которая растет как base, а после удаления элементов уменьшает массив
+     * до удвоенного размера списка, когда список занимает меньше четверти емкости.
+     * Разница между порогами роста и уменьшения не дает массиву перевыделяться при чередовании add и remove.
+     */
+    public static GrowthPolicy shrinking(GrowthPolicy base) {
+        return new Shrinking(base);
+    }
+
+    private static final class OneAndHalf extends GrowthPolicy {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+        static final OneAndHalf INSTANCE = new OneAndHalf();
+
+        public int preferredGrowth(int oldCapacity, int minCapacity) {
+            return oldCapacity >> 1;
+        }
+
+        @java.io.Serial
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
+    private static final class Doubling extends GrowthPolicy {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+        static final Doubling INSTANCE = new Doubling();
+
+        public int preferredGrowth(int oldCapacity, int minCapacity) {
+            return oldCapacity;
+        }
+
+        @java.io.Serial
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
+    private static final class FixedStep extends GrowthPolicy {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+        private final int step;
+
+        FixedStep(int step) {
+            if (step < 1)
+                throw new IllegalArgumentException("Некорректное значение: " + step);
+            this.step = step;
+        }
+
+        public int preferredGrowth(int oldCapacity, int minCapacity) {
+            return step;
+        }
+    }
+
+    private static final class Capped extends GrowthPolicy {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+        private final int maxStep;
+
+        Capped(int maxStep) {
+            if (maxStep < 1)
+                throw new IllegalArgumentException("Некорректное значение: " + maxStep);
+            this.maxStep = maxStep;
+        }
+
+        public int preferredGrowth(int oldCapacity, int minCapacity) {
+            return Math.min(oldCapacity >> 1, maxStep);
+        }
+    }
+
+    private static final class Learned extends GrowthPolicy {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+        // Гонки при записи допустимы: теряется лишь часть статистики
+        private volatile int learnedCapacity;
+
+        public int preferredGrowth(int oldCapacity, int minCapacity) {
+            if (minCapacity > learnedCapacity)
+                learnedCapacity = minCapacity;
+            return oldCapacity >> 1;
+        }
+
+        public int initialCapacity(int minCapacity) {
+            return Math.max(Math.max(DEFAULT_CAPACITY, minCapacity), learnedCapacity);
+        }
+
+        protected GrowthPolicy copy() {
+            final Learned p = new Learned();
+            p.learnedCapacity = learnedCapacity;
+            return p;
+        }
+    }
+
+    private static final class Shrinking extends GrowthPolicy {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+        private final GrowthPolicy base;
+
+        Shrinking(GrowthPolicy base) {
+            this.base = java.util.Objects.requireNonNull(base);
+        }
+
+        public int preferredGrowth(int oldCapacity, int minCapacity) {
+            return base.preferredGrowth(oldCapacity, minCapacity);
+        }
+
+        public int initialCapacity(int minCapacity) {
+            return base.initialCapacity(minCapacity);
+        }
+
+        public int shrinkCapacity(int capacity, int size) {
+            if (capacity > DEFAULT_CAPACITY && size < (capacity >> 2))
+                return Math.max(DEFAULT_CAPACITY, size << 1);
+            return capacity;
+        }
+
+        protected GrowthPolicy copy() {
+            final GrowthPolicy b = base.copy();
+            return (b == base) ? this : new Shrinking(b);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ru.skypro;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Заголовок двоичного формата MyArrayList и MyLinkedList:
+ * сигнатура, версия и количество элементов, за которыми следуют элементы, записанные ElementCodec.
+ * Размер в заголовке позволяет читающей стороне заранее выделить память под элементы,
+ * но не более {@link #MAX_PREALLOCATED}: остальное выделяется по мере чтения.
+ */
+final class ListBinaryFormat {
+    /**
+     Сигнатура формата ("MLBF")
+     */
+    private static final int MAGIC = 0x4D4C4246;
+    private static final int VERSION = 1;
+
+    /**
+     Наибольшее количество элементов, под которое память выделяется до чтения самих элементов
+     */
+    static final int MAX_PREALLOCATED = 1 << 16;
+
+    private ListBinaryFormat() {
+    }
+
+    static void writeHeader(DataOutput out, int size) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(size);
+    }
+
+    /**
+     * Читает заголовок и возвращает количество элементов.
+     *
+     * @throws IOException если сигнатура, версия или размер некорректны
+     */
+    static int readHeader(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("Данные не являются списком в двоичном формате");
+        final int version = in.readInt();
+        if (version != VERSION)
+            throw new IOException("Неподдерживаемая версия формата: " + version);
+        final int size = in.readInt();
+        if (size < 0)
+            throw new IOException("Некорректный размер: " + size);
+        return size;
+    }
+}
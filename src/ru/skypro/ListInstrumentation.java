@@ -0,0 +1,269 @@
+package ru.skypro;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Инструментирование горячих путей MyArrayList и MyLinkedList: счетчики и события JDK Flight Recorder
+ * для операций, выполняющих O(n) работу.
+ *
+ * Включается системным свойством {@code -Dru.skypro.instrumentation=true} при запуске JVM.
+ * Флаг {@link #ENABLED} — статическая константа, поэтому без свойства JIT выбрасывает проверки
+ * на местах вызова, и выключенное инструментирование ничего не стоит.
+ *
+ * При включенном инструментировании счетчики обновляются всегда, а события записываются,
+ * только если они разрешены в записи JFR (например, {@code jcmd <pid> JFR.start} с настройками,
+ * включающими события ru.skypro.*). События снимают стек, по которому видно место вызова.
+ *
+ * Учитываются:
+ * <ul>
+ *     <li>перевыделения elementData MyArrayList (рост и сжатие): старая и новая емкость, скопированные элементы;</li>
+ *     <li>сдвиги System.arraycopy в MyArrayList.add(int, E) и при удалении по индексу;</li>
+ *     <li>длины обхода узлов в MyLinkedList.node(int);</li>
+ *     <li>длины линейного просмотра в indexOf, lastIndexOf и remove(Object) обоих списков;</li>
+ *     <li>ConcurrentModificationException, брошенные из checkForComodification.</li>
+ * </ul>
+ */
+public final class ListInstrumentation {
+
+    /**
+     * Включено ли инструментирование; читается один раз при загрузке класса.
+     */
+    static final boolean ENABLED = Boolean.getBoolean("ru.skypro.instrumentation");
+
+    private static final LongAdder reallocations = new LongAdder();
+    private static final LongAdder reallocatedElements = new LongAdder();
+    private static final LongAdder shifts = new LongAdder();
+    private static final LongAdder shiftedElements = new LongAdder();
+    private static final LongAdder nodeWalks = new LongAdder();
+    private static final LongAdder nodeWalkSteps = new LongAdder();
+    private static final LongAdder scans = new LongAdder();
+    private static final LongAdder scannedElements = new LongAdder();
+    private static final LongAdder comodifications = new LongAdder();
+
+    private ListInstrumentation() {
+    }
+
+    // События JFR
+
+    @Name("ru.skypro.ArrayReallocation")
+    @Label("MyArrayList Reallocation")
+    @Category({"Collections", "MyArrayList"})
+    @Description("Копирование elementData в массив другой емкости")
+    static final class ReallocationEvent extends Event {
+        @Label("Old Capacity")
+        int oldCapacity;
+        @Label("New Capacity")
+        int newCapacity;
+        @Label("Copied Elements")
+        int copiedElements;
+    }
+
+    @Name("ru.skypro.ArrayShift")
+    @Label("MyArrayList Shift")
+    @Category({"Collections", "MyArrayList"})
+    @Description("Сдвиг хвоста elementData при вставке или удалении по индексу")
+    static final class ShiftEvent extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Index")
+        int index;
+        @Label("Shifted Elements")
+        int shiftedElements;
+    }
+
+    @Name("ru.skypro.NodeWalk")
+    @Label("MyLinkedList Node Walk")
+    @Category({"Collections", "MyLinkedList"})
+    @Description("Обход узлов для доступа по индексу")
+    static final class NodeWalkEvent extends Event {
+        @Label("Index")
+        int index;
+        @Label("Size")
+        int size;
+        @Label("Steps")
+        int steps;
+    }
+
+    @Name("ru.skypro.LinearScan")
+    @Label("Linear Scan")
+    @Category({"Collections"})
+    @Description("Линейный поиск элемента по значению")
+    static final class LinearScanEvent extends Event {
+        @Label("List Class")
+        Class<?> listClass;
+        @Label("Operation")
+        String operation;
+        @Label("Scanned Elements")
+        int scannedElements;
+        @Label("Found")
+        boolean found;
+    }
+
+    @Name("ru.skypro.ConcurrentModification")
+    @Label("Concurrent Modification")
+    @Category({"Collections"})
+    @Description("ConcurrentModificationException из checkForComodification")
+    static final class ComodificationEvent extends Event {
+        @Label("List Class")
+        Class<?> listClass;
+    }
+
+    // Точки вызова; вызываются только под проверкой ENABLED
+
+    static void reallocated(int oldCapacity, int newCapacity, int copiedElements) {
+        reallocations.increment();
+        reallocatedElements.add(copiedElements);
+        ReallocationEvent event = new ReallocationEvent();
+        if (event.shouldCommit()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.copiedElements = copiedElements;
+            event.commit();
+        }
+    }
+
+    static void shifted(String operation, int index, int shiftedElements) {
+        if (shiftedElements <= 0)
+            return;
+        shifts.increment();
+        ListInstrumentation.shiftedElements.add(shiftedElements);
+        ShiftEvent event = new ShiftEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.index = index;
+            event.shiftedElements = shiftedElements;
+            event.commit();
+        }
+    }
+
+    static void nodeWalked(int index, int size, int steps) {
+        nodeWalks.increment();
+        nodeWalkSteps.add(steps);
+        NodeWalkEvent event = new NodeWalkEvent();
+        if (event.shouldCommit()) {
+            event.index = index;
+            event.size = size;
+            event.steps = steps;
+            event.commit();
+        }
+    }
+
+    /**
+     * Учитывает просмотр scannedElements элементов списка list операцией operation.
+     */
+    static void scanned(Object list, String operation, int scannedElements, boolean found) {
+        scans.increment();
+        ListInstrumentation.scannedElements.add(scannedElements);
+        LinearScanEvent event = new LinearScanEvent();
+        if (event.shouldCommit()) {
+            event.listClass = list.getClass();
+            event.operation = operation;
+            event.scannedElements = scannedElements;
+            event.found = found;
+            event.commit();
+        }
+    }
+
+    static void comodified(Object list) {
+        comodifications.increment();
+        ComodificationEvent event = new ComodificationEvent();
+        if (event.shouldCommit()) {
+            event.listClass = list.getClass();
+            event.commit();
+        }
+    }
+
+    // Счетчики
+
+    /**
+     * Возвращает true, если JVM запущена с {@code -Dru.skypro.instrumentation=true}.
+     * Иначе все счетчики остаются нулевыми.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Возвращает количество перевыделений elementData во всех MyArrayList.
+     */
+    public static long reallocationCount() {
+        return reallocations.sum();
+    }
+
+    /**
+     * Возвращает количество элементов, скопированных при перевыделениях elementData.
+     */
+    public static long reallocatedElementCount() {
+        return reallocatedElements.sum();
+    }
+
+    /**
+     * Возвращает количество сдвигов arraycopy при вставке и удалении по индексу.
+     */
+    public static long shiftCount() {
+        return shifts.sum();
+    }
+
+    /**
+     * Возвращает суммарное количество сдвинутых элементов.
+     */
+    public static long shiftedElementCount() {
+        return shiftedElements.sum();
+    }
+
+    /**
+     * Возвращает количество вызовов MyLinkedList.node(int).
+     */
+    public static long nodeWalkCount() {
+        return nodeWalks.sum();
+    }
+
+    /**
+     * Возвращает суммарное количество переходов по узлам в MyLinkedList.node(int).
+     */
+    public static long nodeWalkStepCount() {
+        return nodeWalkSteps.sum();
+    }
+
+    /**
+     * Возвращает количество линейных поисков по значению.
+     */
+    public static long scanCount() {
+        return scans.sum();
+    }
+
+    /**
+     * Возвращает суммарное количество элементов, просмотренных линейными поисками.
+     */
+    public static long scannedElementCount() {
+        return scannedElements.sum();
+    }
+
+    /**
+     * Возвращает количество ConcurrentModificationException, брошенных из checkForComodification.
+     */
+    public static long comodificationCount() {
+        return comodifications.sum();
+    }
+
+    /**
+     * Обнуляет все счетчики. Вызовы, идущие одновременно со сбросом, могут частично попасть в старые значения.
+     */
+    public static void reset() {
+        reallocations.reset();
+        reallocatedElements.reset();
+        shifts.reset();
+        shiftedElements.reset();
+        nodeWalks.reset();
+        nodeWalkSteps.reset();
+        scans.reset();
+        scannedElements.reset();
+        comodifications.reset();
+    }
+}
@@ -0,0 +1,589 @@
+package ru.skypro;
+import java.util.*;
+import java.util.function.Consumer;
+
+
+/**
+ * Двунаправленная очередь на кольцевом массиве с теми же операциями Deque, что и у MyLinkedList
+ * (push/pop, offerFirst/offerLast, pollFirst/pollLast, peek, descendingIterator), и доступом по индексу
+ * {@link #get(int)}/{@link #set(int, Object)} за O(1).
+ *
+ * Длина массива — степень двойки, поэтому позиции вычисляются маской, а не делением.
+ * В отличие от MyLinkedList, добавление не создает узлов: после того как массив вырос до рабочего
+ * размера, операции очереди не выделяют память.
+ *
+ * Режимы емкости:
+ * <ul>
+ * <li>без ограничения (конструкторы) — массив удваивается при заполнении;</li>
+ * <li>{@link #bounded(int)} — offer возвращает false, а add бросает IllegalStateException при заполнении;</li>
+ * <li>{@link #slidingWindow(int, Consumer)} — «скользящее окно»: при переполнении вытесняется
+ * самый старый элемент с противоположного конца (для addLast — первый, для addFirst — последний).</li>
+ * </ul>
+ * Элементы null не допускаются.
+ */
+public class MyArrayDeque<E> extends AbstractCollection<E>
+        implements Deque<E>, Cloneable, java.io.Serializable
+{
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     Дефолтная длина массива (степень двойки)
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     Наибольшая длина массива (степень двойки)
+     */
+    private static final int MAX_ARRAY_LENGTH = 1 << 30;
+
+    /**
+     Кольцевой массив элементов, длина — степень двойки
+     */
+    transient Object[] elements;
+
+    /**
+     Индекс первого элемента в массиве
+     */
+    private transient int head;
+
+    /**
+     Количество элементов
+     */
+    private transient int size;
+
+    /**
+     Наибольшее количество элементов; Integer.MAX_VALUE, если очередь не ограничена
+     */
+    private final int maxSize;
+
+    /**
+     true в режиме скользящего окна: переполнение вытесняет старый элемент
+     */
+    private final boolean evicting;
+
+    /**
+     Получатель вытесненных элементов в режиме скользящего окна; может быть null
+     */
+    private final transient Consumer<? super E> onEvict;
+
+    /**
+     Счетчик структурных изменений для отказоустойчивых итераторов
+     */
+    private transient int modCount;
+
+    /**
+     * Создание пустой очереди без ограничения размера.
+     */
+    public MyArrayDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создание пустой очереди без ограничения размера с массивом, вмещающим numElements элементов.
+     */
+    public MyArrayDeque(int numElements) {
+        this(numElements, Integer.MAX_VALUE, false, null);
+    }
+
+    /**
+     * Создает очередь, содержащую элементы указанной коллекции
+     * в том порядке, в котором они были возвращены итератором.
+     */
+    public MyArrayDeque(Collection<? extends E> c) {
+        this(c.size());
+        for (E e : c)
+            addLast(e);
+    }
+
+    private MyArrayDeque(int numElements, int maxSize, boolean evicting, Consumer<? super E> onEvict) {
+        if (numElements < 0)
+            throw new IllegalArgumentException("Некорректное значение: " + numElements);
+        this.elements = new Object[arrayLength(numElements)];
+        this.maxSize = maxSize;
+        this.evicting = evicting;
+        this.onEvict = onEvict;
+    }
+
+    /**
+     * Возвращает очередь, вмещающую не более capacity элементов; массив выделяется сразу.
+     *
+     * @throws IllegalArgumentException если capacity < 1
+     */
+    public static <E> MyArrayDeque<E> bounded(int capacity) {
+        checkCapacity(capacity);
+        return new MyArrayDeque<>(capacity, capacity, false, null);
+    }
+
+    /**
+     * Возвращает очередь-окно из последних capacity элементов.
+     */
+    public static <E> MyArrayDeque<E> slidingWindow(int capacity) {
+        return slidingWindow(capacity, null);
+    }
+
+    /**
+     * Возвращает очередь-окно из последних capacity элементов; каждый вытесненный элемент
+     * передается onEvict (например, чтобы вычесть его из скользящей суммы).
+     *
+     * @throws IllegalArgumentException если capacity < 1
+     */
+    public static <E> MyArrayDeque<E> slidingWindow(int capacity, Consumer<? super E> onEvict) {
+        checkCapacity(capacity);
+        return new MyArrayDeque<>(capacity, capacity, true, onEvict);
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity < 1 || capacity > MAX_ARRAY_LENGTH)
+            throw new IllegalArgumentException("Некорректная емкость: " + capacity);
+    }
+
+    /**
+     * Возвращает наименьшую степень двойки, не меньшую numElements (не меньше 1).
+     */
+    private static int arrayLength(int numElements) {
+        if (numElements > MAX_ARRAY_LENGTH)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика: " + numElements);
+        return (numElements <= 1) ? 1 : Integer.highestOneBit(numElements - 1) << 1;
+    }
+
+    /**
+     * Возвращает наибольшее количество элементов или Integer.MAX_VALUE, если очередь не ограничена.
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Возвращает true в режиме скользящего окна.
+     */
+    public boolean isSlidingWindow() {
+        return evicting;
+    }
+
+    /**
+     * Удваивает массив, раскладывая элементы с начала нового массива.
+     */
+    private void grow() {
+        final Object[] es = elements;
+        final int n = es.length;
+        if (n >= MAX_ARRAY_LENGTH)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика");
+        final Object[] a = new Object[n << 1];
+        final int r = n - head; // элементы справа от head
+        System.arraycopy(es, head, a, 0, r);
+        System.arraycopy(es, 0, a, r, head);
+        elements = a;
+        head = 0;
+    }
+
+    /**
+     * Готовит место для одного элемента. Возвращает false, если ограниченная очередь заполнена.
+     * В режиме окна вытесняет элемент с конца, противоположного добавлению.
+     */
+    private boolean makeRoom(boolean atFirst) {
+        if (size == maxSize) {
+            if (!evicting)
+                return false;
+            final E evicted = atFirst ? unlinkLast() : unlinkFirst();
+            if (onEvict != null)
+                onEvict.accept(evicted);
+        }
+        if (size == elements.length)
+            grow();
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E unlinkFirst() {
+        final Object[] es = elements;
+        final int h = head;
+        final E e = (E) es[h];
+        es[h] = null;
+        head = (h + 1) & (es.length - 1);
+        size--;
+        modCount++;
+        return e;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E unlinkLast() {
+        final Object[] es = elements;
+        final int t = (head + size - 1) & (es.length - 1);
+        final E e = (E) es[t];
+        es[t] = null;
+        size--;
+        modCount++;
+        return e;
+    }
+
+    // Операции двунаправленной очереди
+
+    /**
+     * Вставляет элемент в начало очереди.
+     *
+     * @throws IllegalStateException если ограниченная очередь заполнена
+     */
+    public void addFirst(E e) {
+        if (!offerFirst(e))
+            throw new IllegalStateException("Очередь заполнена");
+    }
+
+    /**
+     * Добавляет элемент в конец очереди.
+     *
+     * @throws IllegalStateException если ограниченная очередь заполнена
+     */
+    public void addLast(E e) {
+        if (!offerLast(e))
+            throw new IllegalStateException("Очередь заполнена");
+    }
+
+    /**
+     * Вставляет элемент в начало очереди. Возвращает false, если ограниченная очередь заполнена.
+     */
+    public boolean offerFirst(E e) {
+        Objects.requireNonNull(e);
+        if (!makeRoom(true))
+            return false;
+        final Object[] es = elements;
+        head = (head - 1) & (es.length - 1);
+        es[head] = e;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в конец очереди. Возвращает false, если ограниченная очередь заполнена.
+     */
+    public boolean offerLast(E e) {
+        Objects.requireNonNull(e);
+        if (!makeRoom(false))
+            return false;
+        final Object[] es = elements;
+        es[(head + size) & (es.length - 1)] = e;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    public E removeFirst() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return unlinkFirst();
+    }
+
+    public E removeLast() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return unlinkLast();
+    }
+
+    public E pollFirst() {
+        return (size == 0) ? null : unlinkFirst();
+    }
+
+    public E pollLast() {
+        return (size == 0) ? null : unlinkLast();
+    }
+
+    public E getFirst() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return elementAt(0);
+    }
+
+    public E getLast() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return elementAt(size - 1);
+    }
+
+    public E peekFirst() {
+        return (size == 0) ? null : elementAt(0);
+    }
+
+    public E peekLast() {
+        return (size == 0) ? null : elementAt(size - 1);
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента (при обходе от начала до конца).
+     */
+    public boolean removeFirstOccurrence(Object o) {
+        if (o != null) {
+            for (int i = 0; i < size; i++) {
+                if (o.equals(elementAt(i))) {
+                    delete(i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Удаляет последнее вхождение указанного элемента (при обходе от начала до конца).
+     */
+    public boolean removeLastOccurrence(Object o) {
+        if (o != null) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (o.equals(elementAt(i))) {
+                    delete(i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Операции очереди и стека
+
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    public E remove() {
+        return removeFirst();
+    }
+
+    public E poll() {
+        return pollFirst();
+    }
+
+    public E element() {
+        return getFirst();
+    }
+
+    public E peek() {
+        return peekFirst();
+    }
+
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    public E pop() {
+        return removeFirst();
+    }
+
+    // Операции позиционного доступа
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        final Object[] es = elements;
+        return (E) es[(head + index) & (es.length - 1)];
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу (0 — первый элемент).
+     */
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return elementAt(index);
+    }
+
+    /**
+     * Заменяет элемент по указанному индексу. Возвращает прежнее значение.
+     */
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element);
+        final Object[] es = elements;
+        final int i = (head + index) & (es.length - 1);
+        @SuppressWarnings("unchecked") E oldValue = (E) es[i];
+        es[i] = element;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент с индексом index, сдвигая ту часть очереди (до или после него), которая короче.
+     */
+    private void delete(int index) {
+        final Object[] es = elements;
+        final int mask = es.length - 1;
+        if (index < size - index - 1) {
+            // сдвигаем начало вправо
+            for (int i = index; i > 0; i--)
+                es[(head + i) & mask] = es[(head + i - 1) & mask];
+            es[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // сдвигаем конец влево
+            for (int i = index; i < size - 1; i++)
+                es[(head + i) & mask] = es[(head + i + 1) & mask];
+            es[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+    }
+
+    // Операции коллекции
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(Object o) {
+        if (o != null) {
+            for (int i = 0; i < size; i++)
+                if (o.equals(elementAt(i)))
+                    return true;
+        }
+        return false;
+    }
+
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Удаляет все элементы. Массив сохраняется.
+     */
+    public void clear() {
+        final Object[] es = elements;
+        final int mask = es.length - 1;
+        for (int i = 0; i < size; i++)
+            es[(head + i) & mask] = null;
+        head = size = 0;
+        modCount++;
+    }
+
+    public Object[] toArray() {
+        return toArray(new Object[size]);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        if (a.length < size)
+            a = (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+        final Object[] es = elements;
+        final int r = Math.min(size, es.length - head); // элементы до конца массива
+        System.arraycopy(es, head, a, 0, r);
+        System.arraycopy(es, 0, a, r, size - r);
+        if (a.length > size)
+            a[size] = null;
+        return a;
+    }
+
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++)
+            action.accept(elementAt(i));
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    public Iterator<E> iterator() {
+        return new Itr(false);
+    }
+
+    public Iterator<E> descendingIterator() {
+        return new Itr(true);
+    }
+
+    /**
+     * Итератор по индексам от начала к концу или от конца к началу.
+     */
+    private class Itr implements Iterator<E> {
+        private final boolean descending;
+        private int cursor;        // количество уже пройденных элементов
+        private int lastRet = -1;  // индекс последнего возвращенного элемента
+        private int expectedModCount = modCount;
+
+        Itr(boolean descending) {
+            this.descending = descending;
+        }
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (cursor >= size)
+                throw new NoSuchElementException();
+            final int i = descending ? size - 1 - cursor : cursor;
+            cursor++;
+            return elementAt(lastRet = i);
+        }
+
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            delete(lastRet);
+            cursor--;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Возвращает копию очереди с тем же режимом емкости. (Сами элементы не клонируются.)
+     */
+    public MyArrayDeque<E> clone() {
+        try {
+            @SuppressWarnings("unchecked")
+            MyArrayDeque<E> result = (MyArrayDeque<E>) super.clone();
+            result.elements = elements.clone();
+            result.modCount = 0;
+            return result;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Сохраняет размер и элементы очереди в поток. Получатель вытесненных элементов не сохраняется.
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        s.defaultWriteObject();
+
+        s.writeInt(size);
+        for (int i = 0; i < size; i++)
+            s.writeObject(elementAt(i));
+    }
+
+    /**
+     * Восстанавливает очередь из потока.
+     */
+    @java.io.Serial
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+
+        final int size = s.readInt();
+        if (size < 0 || size > maxSize)
+            throw new java.io.InvalidObjectException("Некорректный размер: " + size);
+        final Object[] es = new Object[arrayLength(Math.max(size, (maxSize == Integer.MAX_VALUE) ? DEFAULT_CAPACITY : maxSize))];
+        for (int i = 0; i < size; i++)
+            es[i] = Objects.requireNonNull(s.readObject());
+        elements = es;
+        this.size = size;
+    }
+}
@@ -1,6 +1,13 @@
 package ru.skypro;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import jdk.internal.access.SharedSecrets;
 import jdk.internal.util.ArraysSupport;
 
@@ -14,6 +21,11 @@ public class MyArrayList<E> extends AbstractList<E>
      Дефолтный размер списка при объявлении
      */
     private static final int DEFAULT_CAPACITY = 10;
+    /**
+     Размер списка по умолчанию, начиная с которого parallelSort и parallelReplaceAll
+     распределяют работу по ForkJoinPool
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
     /**
     Общий пустой экземпляр массива, используемый для пустых экземпляров.
      */
@@ -37,6 +49,26 @@ public class MyArrayList<E> extends AbstractList<E>
     */
     private int size;
 
+    /**
+    Порог размера для параллельных операций; 0 означает DEFAULT_PARALLEL_THRESHOLD
+    */
+    private transient int parallelThreshold;
+
+    /**
+    Политика изменения емкости elementData
+    */
+    private GrowthPolicy growthPolicy;
+
+    /**
+    Количество перевыделений elementData через Arrays.copyOf
+    */
+    private transient long reallocationCount;
+
+    /**
+    Количество элементов, скопированных при перевыделениях elementData
+    */
+    private transient long copiedElementCount;
+
     /**
      * Создает пустой список с указанной начальной емкостью
      *
@@ -44,6 +76,18 @@ public class MyArrayList<E> extends AbstractList<E>
      * @throws IllegalArgumentException бросает ошибку, если передаваемая емкость < 0 (отрицательная)
      */
     public MyArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.oneAndHalf());
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и политикой изменения емкости
+     *
+     * @param  initialCapacity  начальная емкость списка
+     * @param  growthPolicy  политика изменения емкости
+     * @throws IllegalArgumentException бросает ошибку, если передаваемая емкость < 0 (отрицательная)
+     */
+    public MyArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
         if (initialCapacity > 0) {
             this.elementData = new Object[initialCapacity];
         } else if (initialCapacity == 0) {
@@ -58,6 +102,15 @@ public class MyArrayList<E> extends AbstractList<E>
      * Создает пустой список с начальной емкостью 10.
      */
     public MyArrayList() {
+        this(GrowthPolicy.oneAndHalf());
+    }
+
+    /**
+     * Создает пустой список с указанной политикой изменения емкости.
+     * Начальную емкость при первом добавлении определяет политика.
+     */
+    public MyArrayList(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
         this.elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
     }
 
@@ -69,6 +122,7 @@ public class MyArrayList<E> extends AbstractList<E>
      * @throws NullPointerException если указанная коллекция пуста (null)
      */
     public MyArrayList(Collection<? extends E> c) {
+        this.growthPolicy = GrowthPolicy.oneAndHalf();
         Object[] a = c.toArray();
         if ((size = a.length) != 0) {
             if (c.getClass() == MyArrayList.class) {
@@ -82,6 +136,27 @@ public class MyArrayList<E> extends AbstractList<E>
         }
     }
 
+    /**
+     * Создает список поверх переданного массива без копирования; список становится владельцем массива.
+     * Используется MyCopyOnWriteArrayList для пакетных изменений рабочей копии.
+     *
+     * @param elementData массив типа Object[] с элементами в ячейках [0, size)
+     */
+    MyArrayList(Object[] elementData, int size) {
+        this.growthPolicy = GrowthPolicy.oneAndHalf();
+        this.elementData = (elementData.length == 0) ? EMPTY_ELEMENTDATA : elementData;
+        this.size = size;
+    }
+
+    /**
+     * Возвращает массив ровно из size элементов: сам elementData, если он заполнен целиком, иначе его копию.
+     * После вызова список нельзя изменять, если массив передан другому владельцу.
+     */
+    Object[] trimmedElementData() {
+        final Object[] es = elementData;
+        return (es.length == size) ? es : Arrays.copyOf(es, size);
+    }
+
     /**
      * Обрезает емкость текущего экземпляра ArrayList
      * до текущего размера (size).  Приложение может использовать эту операцию для уменьшения
@@ -92,7 +167,7 @@ public class MyArrayList<E> extends AbstractList<E>
         if (size < elementData.length) {
             elementData = (size == 0)
                     ? EMPTY_ELEMENTDATA
-                    : Arrays.copyOf(elementData, size);
+                    : reallocate(size);
         }
     }
 
@@ -115,7 +190,8 @@ public class MyArrayList<E> extends AbstractList<E>
      * Увеличивает емкость экземпляра ArrayList при необходимости,
      * чтобы гарантированно иметь minCapacity элементов
      *
-     * Если массив не пуст, то мы увеличиваем наш исходный массив на длину, равную половине(округление вниз) старой длины,
+     * Если массив не пуст, то мы увеличиваем наш исходный массив на предпочтительный прирост политики
+     * (по умолчанию на половину(округление вниз) старой длины),
      * если получившаяся длина не больше максимальной длины массива(Integer.MAX_VALUE - 8),
      *
      * иначе равную максимальной длине массива,
@@ -123,8 +199,8 @@ public class MyArrayList<E> extends AbstractList<E>
      *
      * иначе равную Integer.MAX_VALUE.
      *
-     * Иначе мы заново инициализируем массив, передавая в него ссылку на массив объектов длиной 10
-     * или minCapacity, если minCapacity > 10.
+     * Иначе мы заново инициализируем массив, передавая в него ссылку на массив объектов длиной,
+     * которую определяет политика (по умолчанию 10 или minCapacity, если minCapacity > 10).
      *
      * @param minCapacity желаемая минимальная емкость
      * @throws OutOfMemoryError если minCapacity < 0 (отрицательное)
@@ -135,13 +211,63 @@ public class MyArrayList<E> extends AbstractList<E>
 
             int newCapacity = ArraysSupport.newLength(oldCapacity,
                     minCapacity - oldCapacity, /* минимальный рост */
-                    oldCapacity >> 1           /* предпочтительный рост */);
-            return elementData = Arrays.copyOf(elementData, newCapacity);
+                    growthPolicy.preferredGrowth(oldCapacity, minCapacity) /* предпочтительный рост */);
+            return elementData = reallocate(newCapacity);
         } else {
-            return elementData = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+            return elementData = new Object[Math.max(minCapacity, growthPolicy.initialCapacity(minCapacity))];
         }
     }
 
+    /**
+     * Копирует elementData в новый массив длины newCapacity и учитывает перевыделение в счетчиках.
+     */
+    private Object[] reallocate(int newCapacity) {
+        final int copied = Math.min(elementData.length, newCapacity);
+        reallocationCount++;
+        copiedElementCount += copied;
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.reallocated(elementData.length, newCapacity, copied);
+        return Arrays.copyOf(elementData, newCapacity);
+    }
+
+    /**
+     * Уменьшает elementData, если этого требует политика после удаления элементов.
+     */
+    private void shrinkIfSparse() {
+        final int capacity = elementData.length;
+        final int newCapacity = growthPolicy.shrinkCapacity(capacity, size);
+        if (newCapacity < capacity)
+            elementData = reallocate(Math.max(newCapacity, size));
+    }
+
+    /**
+     * Возвращает политику изменения емкости списка.
+     */
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Возвращает количество перевыделений внутреннего массива (Arrays.copyOf) за время жизни списка.
+     */
+    public long reallocationCount() {
+        return reallocationCount;
+    }
+
+    /**
+     * Возвращает количество элементов, скопированных при перевыделениях внутреннего массива.
+     */
+    public long copiedElementCount() {
+        return copiedElementCount;
+    }
+
+    /**
+     * Возвращает количество неиспользуемых ячеек внутреннего массива (емкость минус размер).
+     */
+    public int slackCapacity() {
+        return elementData.length - size;
+    }
+
     private Object[] grow() { return grow(size + 1); }
 
     // Возвращает размер массива
@@ -162,11 +288,17 @@ public class MyArrayList<E> extends AbstractList<E>
      * или -1, если список не содержит данный элемент
      */
     public int indexOf(Object o) {
-        return indexOfRange(o, 0, size);
+        final int i = indexOfRange(o, 0, size);
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.scanned(this, "indexOf", i < 0 ? size : i + 1, i >= 0);
+        return i;
     }
 
     int indexOfRange(Object o, int start, int end) {
-        Object[] es = elementData;
+        return indexOfIn(elementData, o, start, end);
+    }
+
+    private static int indexOfIn(Object[] es, Object o, int start, int end) {
         if (o == null) {
             for (int i = start; i < end; i++) {
                 if (es[i] == null) {
@@ -188,11 +320,17 @@ public class MyArrayList<E> extends AbstractList<E>
      * или -1, если список не содержит данный элемент
      */
     public int lastIndexOf(Object o) {
-        return lastIndexOfRange(o, 0, size);
+        final int i = lastIndexOfRange(o, 0, size);
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.scanned(this, "lastIndexOf", i < 0 ? size : size - i, i >= 0);
+        return i;
     }
 
     int lastIndexOfRange(Object o, int start, int end) {
-        Object[] es = elementData;
+        return lastIndexOfIn(elementData, o, start, end);
+    }
+
+    private static int lastIndexOfIn(Object[] es, Object o, int start, int end) {
         if (o == null) {
             for (int i = end - 1; i >= start; i--) {
                 if (es[i] == null) {
@@ -214,7 +352,10 @@ public class MyArrayList<E> extends AbstractList<E>
         try {
             MyArrayList<?> v = (MyArrayList<?>) super.clone();
             v.elementData = Arrays.copyOf(elementData, size);
+            v.growthPolicy = growthPolicy.copy();
             v.modCount = 0;
+            v.reallocationCount = 0;
+            v.copiedElementCount = 0;
             return v;
         } catch (CloneNotSupportedException e) {
             // этого не должно происходить, так как мы Cloneable
@@ -304,6 +445,8 @@ public class MyArrayList<E> extends AbstractList<E>
         System.arraycopy(elementData, index,
                 elementData, index + 1,
                 s - index);
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.shifted("add", index, s - index);
         elementData[index] = element;
         size = s + 1;
     }
@@ -377,6 +520,8 @@ public class MyArrayList<E> extends AbstractList<E>
 
     private void checkForComodification(final int expectedModCount) {
         if (modCount != expectedModCount) {
+            if (ListInstrumentation.ENABLED)
+                ListInstrumentation.comodified(this);
             throw new ConcurrentModificationException();
         }
     }
@@ -419,8 +564,12 @@ public class MyArrayList<E> extends AbstractList<E>
                     if (o.equals(es[i]))
                         break found;
             }
+            if (ListInstrumentation.ENABLED)
+                ListInstrumentation.scanned(this, "remove", size, false);
             return false;
         }
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.scanned(this, "remove", i + 1, true);
         fastRemove(es, i);
         return true;
     }
@@ -432,14 +581,18 @@ public class MyArrayList<E> extends AbstractList<E>
     private void fastRemove(Object[] es, int i) {
         modCount++;
         final int newSize;
-        if ((newSize = size - 1) > i)
+        if ((newSize = size - 1) > i) {
             System.arraycopy(es, i + 1, es, i, newSize - i);
+            if (ListInstrumentation.ENABLED)
+                ListInstrumentation.shifted("remove", i, newSize - i);
+        }
         es[size = newSize] = null;
+        shrinkIfSparse();
     }
 
     /**
      * Удаляет все элементы в списке.
-     * Список будет пуст по итогу.
+     * Список будет пуст по итогу. Емкость массива сохраняется независимо от политики.
      */
     public void clear() {
         modCount++;
@@ -448,6 +601,538 @@ public class MyArrayList<E> extends AbstractList<E>
             es[i] = null;
     }
 
+    /**
+     * Удаляет из списка все элементы, индекс которых находится между fromIndex (включительно)
+     * и toIndex (не включительно). Сдвигает последующие элементы влево одним System.arraycopy.
+     *
+     * @throws IndexOutOfBoundsException если fromIndex или toIndex вне диапазона
+     *         ({@code fromIndex < 0 || toIndex > size() || toIndex < fromIndex})
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    outOfBoundsMsg(fromIndex, toIndex));
+        }
+        modCount++;
+        shiftTailOverGap(elementData, fromIndex, toIndex);
+    }
+
+    /** Удаляет элементы из диапазона [lo, hi), сдвигая хвост влево, и обнуляет освободившиеся ячейки. */
+    private void shiftTailOverGap(Object[] es, int lo, int hi) {
+        System.arraycopy(es, hi, es, lo, size - hi);
+        for (int to = size, i = (size -= hi - lo); i < to; i++)
+            es[i] = null;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Удаляет из списка все элементы, содержащиеся в указанной коллекции.
+     * Выполняется за один проход по elementData.
+     */
+    public boolean removeAll(Collection<?> c) {
+        return batchRemove(c, false, 0, size);
+    }
+
+    /**
+     * Оставляет в списке только элементы, содержащиеся в указанной коллекции.
+     * Выполняется за один проход по elementData.
+     */
+    public boolean retainAll(Collection<?> c) {
+        return batchRemove(c, true, 0, size);
+    }
+
+    boolean batchRemove(Collection<?> c, boolean complement,
+                        final int from, final int end) {
+        Objects.requireNonNull(c);
+        final Object[] es = elementData;
+        int r;
+        // Пропускаем начальный участок, который не изменится
+        for (r = from;; r++) {
+            if (r == end)
+                return false;
+            if (c.contains(es[r]) != complement)
+                break;
+        }
+        int w = r++;
+        try {
+            for (Object e; r < end; r++)
+                if (c.contains(e = es[r]) == complement)
+                    es[w++] = e;
+        } catch (Throwable ex) {
+            // Сохраняем совместимость с AbstractCollection,
+            // даже если c.contains() бросает исключение
+            System.arraycopy(es, r, es, w, end - r);
+            w += end - r;
+            throw ex;
+        } finally {
+            modCount += end - w;
+            shiftTailOverGap(es, w, end);
+        }
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы списка, удовлетворяющие указанному предикату.
+     * Сначала все совпадения отмечаются в битовой маске, затем массив уплотняется за один проход,
+     * а modCount увеличивается один раз.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeIf(filter, 0, size);
+    }
+
+    /**
+     * Удаляет все элементы из диапазона [i, end), удовлетворяющие указанному предикату.
+     */
+    boolean removeIf(Predicate<? super E> filter, int i, final int end) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        final Object[] es = elementData;
+        // Пропускаем начальный участок, который не изменится
+        for (; i < end && !filter.test(elementAt(es, i)); i++)
+            ;
+        // Предикат вызывается ровно один раз для каждого элемента,
+        // поэтому сначала собираем маску, а потом удаляем
+        if (i < end) {
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;   // элемент с индексом beg уже известен
+            for (i = beg + 1; i < end; i++)
+                if (filter.test(elementAt(es, i)))
+                    setBit(deathRow, i - beg);
+            checkForComodification(expectedModCount);
+            modCount++;
+            int w = beg;
+            for (i = beg; i < end; i++)
+                if (isClear(deathRow, i - beg))
+                    es[w++] = es[i];
+            shiftTailOverGap(es, w, end);
+            return true;
+        } else {
+            checkForComodification(expectedModCount);
+            return false;
+        }
+    }
+
+    /**
+     * Удаляет элементы, находящиеся по всем указанным индексам (в любом порядке, допускаются повторы).
+     * Индексы отмечаются в битовой маске, после чего массив уплотняется за один проход.
+     *
+     * @return количество удаленных элементов
+     * @throws IndexOutOfBoundsException если какой-либо индекс вне диапазона; список при этом не меняется
+     */
+    public int removeIndexes(int... indexes) {
+        Objects.requireNonNull(indexes);
+        final int end = size;
+        if (indexes.length == 0)
+            return 0;
+        int beg = end;
+        for (int index : indexes) {
+            Objects.checkIndex(index, end);
+            if (index < beg)
+                beg = index;
+        }
+        final long[] deathRow = nBits(end - beg);
+        for (int index : indexes)
+            setBit(deathRow, index - beg);
+        modCount++;
+        final Object[] es = elementData;
+        int w = beg;
+        for (int i = beg; i < end; i++)
+            if (isClear(deathRow, i - beg))
+                es[w++] = es[i];
+        final int removed = end - w;
+        shiftTailOverGap(es, w, end);
+        return removed;
+    }
+
+    // Битовая маска для отметки удаляемых элементов
+    private static long[] nBits(int n) {
+        return new long[((n - 1) >> 6) + 1];
+    }
+    private static void setBit(long[] bits, int i) {
+        bits[i >> 6] |= 1L << i;
+    }
+    private static boolean isClear(long[] bits, int i) {
+        return (bits[i >> 6] & (1L << i)) == 0;
+    }
+
+    /**
+     * Выполняет action для каждого элемента списка индексным циклом по elementData.
+     * modCount проверяется один раз после обхода.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        final int size = this.size;
+        for (int i = 0; i < size; i++)
+            action.accept(elementAt(es, i));
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Заменяет каждый элемент списка результатом применения operator к нему.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        replaceAllRange(operator, 0, size);
+        modCount++;
+    }
+
+    void replaceAllRange(UnaryOperator<E> operator, int i, int end) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        for (; i < end; i++)
+            es[i] = operator.apply(elementAt(es, i));
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Сортирует диапазон [0, size) массива elementData на месте, без копирования в промежуточный массив.
+     * Если c равен null, используется естественный порядок элементов.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        sortRange(c, 0, size);
+    }
+
+    /**
+     * Сортирует диапазон [from, to) массива elementData на месте.
+     */
+    @SuppressWarnings("unchecked")
+    void sortRange(Comparator<? super E> c, int from, int to) {
+        final int expectedModCount = modCount;
+        Arrays.sort((E[]) elementData, from, to, c);
+        checkForComodification(expectedModCount);
+        modCount++;
+    }
+
+    /**
+     * Сортирует список на месте с помощью Arrays.parallelSort, если размер списка
+     * не меньше порога параллельности, иначе работает как {@link #sort(Comparator)}.
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super E> c) {
+        if (size < getParallelThreshold()) {
+            sort(c);
+            return;
+        }
+        final int expectedModCount = modCount;
+        Arrays.parallelSort((E[]) elementData, 0, size, c);
+        checkForComodification(expectedModCount);
+        modCount++;
+    }
+
+    /**
+     * Заменяет каждый элемент списка результатом применения operator к нему, разбивая список
+     * на части и обрабатывая их в общем ForkJoinPool, если размер списка не меньше порога параллельности.
+     * operator может вызываться одновременно из нескольких потоков.
+     */
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        final int threshold = getParallelThreshold();
+        if (size < threshold) {
+            replaceAll(operator);
+            return;
+        }
+        final int expectedModCount = modCount;
+        ForkJoinPool.commonPool().invoke(
+                new ReplaceAllTask<>(elementData, operator, 0, size, threshold));
+        checkForComodification(expectedModCount);
+        modCount++;
+    }
+
+    /** Задача ForkJoin, применяющая operator к диапазону [lo, hi) массива */
+    private static final class ReplaceAllTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Object[] es;
+        private final UnaryOperator<E> operator;
+        private final int lo, hi, threshold;
+
+        ReplaceAllTask(Object[] es, UnaryOperator<E> operator, int lo, int hi, int threshold) {
+            this.es = es;
+            this.operator = operator;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                for (int i = lo; i < hi; i++)
+                    es[i] = operator.apply(elementAt(es, i));
+            } else {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new ReplaceAllTask<>(es, operator, lo, mid, threshold),
+                        new ReplaceAllTask<>(es, operator, mid, hi, threshold));
+            }
+        }
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента, просматривая части списка в общем ForkJoinPool,
+     * если размер списка не меньше порога параллельности, иначе работает как {@link #indexOf(Object)}.
+     * Части правее уже найденного вхождения не просматриваются.
+     */
+    public int parallelIndexOf(Object o) {
+        final int threshold = getParallelThreshold();
+        final int s = size;
+        if (s < threshold)
+            return indexOf(o);
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        if (s > es.length)
+            throw new ConcurrentModificationException();
+        final AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        ForkJoinPool.commonPool().invoke(new IndexOfTask(es, o, 0, s, threshold, found, false));
+        checkForComodification(expectedModCount);
+        final int i = found.get();
+        return i == Integer.MAX_VALUE ? -1 : i;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента, просматривая части списка в общем ForkJoinPool,
+     * если размер списка не меньше порога параллельности, иначе работает как {@link #lastIndexOf(Object)}.
+     * Части левее уже найденного вхождения не просматриваются.
+     */
+    public int parallelLastIndexOf(Object o) {
+        final int threshold = getParallelThreshold();
+        final int s = size;
+        if (s < threshold)
+            return lastIndexOf(o);
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        if (s > es.length)
+            throw new ConcurrentModificationException();
+        final AtomicInteger found = new AtomicInteger(-1);
+        ForkJoinPool.commonPool().invoke(new IndexOfTask(es, o, 0, s, threshold, found, true));
+        checkForComodification(expectedModCount);
+        return found.get();
+    }
+
+    /**
+     * Параллельный вариант {@link #contains(Object)}, см. {@link #parallelIndexOf(Object)}.
+     */
+    public boolean parallelContains(Object o) {
+        return parallelIndexOf(o) >= 0;
+    }
+
+    /**
+     * Задача ForkJoin, ищущая o в диапазоне [lo, hi) массива. found хранит наименьший (или, при backward,
+     * наибольший) найденный индекс; диапазоны, которые уже не могут его улучшить, пропускаются
+     */
+    private static final class IndexOfTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        /** Через сколько элементов лист перепроверяет found */
+        private static final int CHECK_INTERVAL = 1 << 10;
+        private final Object[] es;
+        private final Object o;
+        private final int lo, hi, threshold;
+        private final AtomicInteger found;
+        private final boolean backward;
+
+        IndexOfTask(Object[] es, Object o, int lo, int hi, int threshold,
+                    AtomicInteger found, boolean backward) {
+            this.es = es;
+            this.o = o;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+            this.found = found;
+            this.backward = backward;
+        }
+
+        /** Возвращает true, если уже найденное вхождение лучше любого индекса из [from, to) */
+        private boolean cancelled(int from, int to) {
+            final int f = found.get();
+            return backward ? f >= to : f < from;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled(lo, hi))
+                return;
+            if (hi - lo > threshold) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new IndexOfTask(es, o, lo, mid, threshold, found, backward),
+                        new IndexOfTask(es, o, mid, hi, threshold, found, backward));
+                return;
+            }
+            if (backward) {
+                for (int to = hi; to > lo && !cancelled(lo, to); to -= CHECK_INTERVAL) {
+                    final int from = Math.max(lo, to - CHECK_INTERVAL);
+                    final int i = lastIndexOfIn(es, o, from, to);
+                    if (i >= 0) {
+                        found.accumulateAndGet(i, Math::max);
+                        return;
+                    }
+                }
+            } else {
+                for (int from = lo; from < hi && !cancelled(from, hi); from += CHECK_INTERVAL) {
+                    final int i = indexOfIn(es, o, from, Math.min(hi, from + CHECK_INTERVAL));
+                    if (i >= 0) {
+                        found.accumulateAndGet(i, Math::min);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Параллельный вариант {@link #hashCode()}: хеши частей списка вычисляются в общем ForkJoinPool,
+     * если размер списка не меньше порога параллельности, и складываются с весами — степенями 31,
+     * поэтому результат совпадает с последовательным.
+     */
+    public int parallelHashCode() {
+        final int threshold = getParallelThreshold();
+        final int s = size;
+        if (s < threshold)
+            return hashCode();
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        if (s > es.length)
+            throw new ConcurrentModificationException();
+        // hashCode = 31^s * 1 + сумма e[i] * 31^(s-1-i)
+        final int hash = pow31(s) + ForkJoinPool.commonPool().invoke(new HashCodeTask(es, 0, s, threshold));
+        checkForComodification(expectedModCount);
+        return hash;
+    }
+
+    /** Возвращает 31^n по модулю 2^32 */
+    private static int pow31(int n) {
+        int result = 1, base = 31;
+        for (; n > 0; n >>>= 1, base *= base) {
+            if ((n & 1) != 0)
+                result *= base;
+        }
+        return result;
+    }
+
+    /**
+     * Задача ForkJoin, вычисляющая полиномиальный хеш диапазона [lo, hi) массива с начальным значением 0.
+     * Хеш склейки частей: left * 31^(длина right) + right
+     */
+    private static final class HashCodeTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+        private final Object[] es;
+        private final int lo, hi, threshold;
+
+        HashCodeTask(Object[] es, int lo, int hi, int threshold) {
+            this.es = es;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (hi - lo <= threshold) {
+                int h = 0;
+                for (int i = lo; i < hi; i++) {
+                    Object e = es[i];
+                    h = 31 * h + (e == null ? 0 : e.hashCode());
+                }
+                return h;
+            }
+            int mid = (lo + hi) >>> 1;
+            HashCodeTask left = new HashCodeTask(es, lo, mid, threshold);
+            left.fork();
+            int right = new HashCodeTask(es, mid, hi, threshold).compute();
+            return left.join() * pow31(hi - mid) + right;
+        }
+    }
+
+    /**
+     * Параллельный вариант {@link #equals(Object)}: если o — MyArrayList того же размера и размер
+     * не меньше порога параллельности, части массивов сравниваются в общем ForkJoinPool,
+     * и первое найденное различие останавливает остальные части. Иначе работает как equals.
+     */
+    public boolean parallelEquals(Object o) {
+        final int threshold = getParallelThreshold();
+        final int s = size;
+        if (s < threshold || o == this || o == null || o.getClass() != MyArrayList.class)
+            return equals(o);
+        final MyArrayList<?> other = (MyArrayList<?>) o;
+        final int expectedModCount = modCount;
+        final int otherModCount = other.modCount;
+        boolean equal;
+        if (equal = (s == other.size)) {
+            final Object[] otherEs = other.elementData;
+            final Object[] es = elementData;
+            if (s > es.length || s > otherEs.length) {
+                throw new ConcurrentModificationException();
+            }
+            final AtomicBoolean mismatch = new AtomicBoolean();
+            ForkJoinPool.commonPool().invoke(new EqualsTask(es, otherEs, 0, s, threshold, mismatch));
+            equal = !mismatch.get();
+        }
+        other.checkForComodification(otherModCount);
+        checkForComodification(expectedModCount);
+        return equal;
+    }
+
+    /**
+     * Задача ForkJoin, сравнивающая диапазоны [lo, hi) двух массивов; найденное различие
+     * выставляет mismatch, после чего остальные задачи завершаются
+     */
+    private static final class EqualsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Object[] es, otherEs;
+        private final int lo, hi, threshold;
+        private final AtomicBoolean mismatch;
+
+        EqualsTask(Object[] es, Object[] otherEs, int lo, int hi, int threshold, AtomicBoolean mismatch) {
+            this.es = es;
+            this.otherEs = otherEs;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+            this.mismatch = mismatch;
+        }
+
+        @Override
+        protected void compute() {
+            if (mismatch.get())
+                return;
+            if (hi - lo > threshold) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new EqualsTask(es, otherEs, lo, mid, threshold, mismatch),
+                        new EqualsTask(es, otherEs, mid, hi, threshold, mismatch));
+                return;
+            }
+            for (int i = lo; i < hi; i++) {
+                if (!Objects.equals(es[i], otherEs[i])) {
+                    mismatch.set(true);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Возвращает размер списка, начиная с которого операции parallel* выполняются параллельно.
+     */
+    public int getParallelThreshold() {
+        int t = parallelThreshold;
+        return t > 0 ? t : DEFAULT_PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Устанавливает размер списка, начиная с которого операции parallel* выполняются параллельно.
+     *
+     * @throws IllegalArgumentException если threshold < 1
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("Некорректное значение: " + threshold);
+        parallelThreshold = threshold;
+    }
+
     /**
      * Добавляет все элементы передаваемого списка в конец списка, метод для которого был вызван,
      * в том порядке, в котором элементы списка были возвращены итератором.
@@ -513,6 +1198,13 @@ public class MyArrayList<E> extends AbstractList<E>
         return "Index: "+index+", Size: "+size;
     }
 
+    /**
+     * Создает сообщение IndexOutOfBoundsException для проверки диапазона.
+     */
+    private static String outOfBoundsMsg(int fromIndex, int toIndex) {
+        return "From Index: " + fromIndex + " > To Index: " + toIndex;
+    }
+
     /**
      * Сохраняет состояние экземпляра {@code ArrayList} в поток.
      */
@@ -544,6 +1236,10 @@ public class MyArrayList<E> extends AbstractList<E>
 
         s.readInt();
 
+        if (growthPolicy == null) {
+            growthPolicy = GrowthPolicy.oneAndHalf();
+        }
+
         if (size > 0) {
 
             SharedSecrets.getJavaObjectInputStreamAccess().checkArray(s, Object[].class, size);
@@ -561,6 +1257,66 @@ public class MyArrayList<E> extends AbstractList<E>
         }
     }
 
+    /**
+     * Записывает список в двоичном формате: заголовок с размером, затем элементы, закодированные codec.
+     * В отличие от сериализации, не пишет дескрипторы классов и ссылки на каждый элемент.
+     */
+    public void writeTo(java.io.DataOutput out, ElementCodec<? super E> codec)
+            throws java.io.IOException {
+        Objects.requireNonNull(codec);
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        final int size = this.size;
+        ListBinaryFormat.writeHeader(out, size);
+        for (int i = 0; i < size; i++)
+            codec.write(elementAt(es, i), out);
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Записывает список в двоичном формате в канал через промежуточный буфер. Канал не закрывается.
+     */
+    public void writeTo(java.nio.channels.WritableByteChannel channel, ElementCodec<? super E> codec)
+            throws java.io.IOException {
+        final ChannelDataOutput out = new ChannelDataOutput(channel);
+        writeTo(out, codec);
+        out.flush();
+    }
+
+    /**
+     * Читает список, записанный методом writeTo. Размеру из заголовка не доверяется безусловно:
+     * сразу выделяется не больше {@link ListBinaryFormat#MAX_PREALLOCATED} элементов, и массив
+     * удваивается по мере чтения, но не сверх размера из заголовка. Поврежденный заголовок
+     * с огромным размером приводит к IOException по концу данных, а не к OutOfMemoryError.
+     *
+     * @throws java.io.IOException если данные повреждены или закончились раньше времени
+     */
+    public static <E> MyArrayList<E> readFrom(java.io.DataInput in, ElementCodec<? extends E> codec)
+            throws java.io.IOException {
+        Objects.requireNonNull(codec);
+        final int size = ListBinaryFormat.readHeader(in);
+        Object[] es = new Object[Math.min(size, ListBinaryFormat.MAX_PREALLOCATED)];
+        for (int i = 0; i < size; i++) {
+            if (i == es.length)
+                es = Arrays.copyOf(es, (int) Math.min(size, 2L * es.length));
+            es[i] = codec.read(in);
+        }
+        return new MyArrayList<>(es, size);
+    }
+
+    /**
+     * Читает список, записанный методом writeTo, из канала. Если канал поддерживает позиционирование,
+     * после чтения он установлен на первый байт за списком.
+     */
+    public static <E> MyArrayList<E> readFrom(java.nio.channels.ReadableByteChannel channel,
+                                              ElementCodec<? extends E> codec)
+            throws java.io.IOException {
+        final ChannelDataInput in = new ChannelDataInput(channel);
+        final MyArrayList<E> list = readFrom(in, codec);
+        in.release();
+        return list;
+    }
+
     /**
      * Возвращает итератор списка по элементам в этом списке (в правильной последовательности),
      * начиная с указанной позиции в списке. Указанный индекс index указывает первый элемент,
@@ -583,6 +1339,549 @@ public class MyArrayList<E> extends AbstractList<E>
         return new Itr();
     }
 
+    /**
+     * Создает позднесвязывающий и отказоустойчивый (fail-fast) Spliterator по элементам списка.
+     * Spliterator делит диапазон индексов массива elementData пополам без копирования элементов
+     * и сообщает характеристики SIZED, SUBSIZED и ORDERED.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
+    /** Индексный Spliterator по elementData, делящийся пополам */
+    final class ArrayListSpliterator implements Spliterator<E> {
+
+        /*
+         * Spliterator связывается со списком поздно: до первого обхода, деления
+         * или запроса размера fence и expectedModCount не инициализированы,
+         * поэтому изменения списка до этого момента учитываются.
+         * После обхода проверяется modCount, и при расхождении
+         * бросается ConcurrentModificationException.
+         */
+
+        private int index; // текущий индекс, изменяется при advance/split
+        private int fence; // -1 до первого использования; затем индекс за последним элементом
+        private int expectedModCount; // инициализируется вместе с fence
+
+        /** Создает новый spliterator, покрывающий заданный диапазон. */
+        ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() { // инициализирует fence размером списка при первом использовании
+            int hi;
+            if ((hi = fence) < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        public ArrayListSpliterator trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null : // делим диапазон пополам, если он не слишком мал
+                    new ArrayListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null)
+                throw new NullPointerException();
+            int hi = getFence(), i = index;
+            if (i < hi) {
+                index = i + 1;
+                @SuppressWarnings("unchecked") E e = (E) elementData[i];
+                action.accept(e);
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        public void forEachRemaining(Consumer<? super E> action) {
+            int i, hi, mc; // поля читаются один раз вне цикла
+            Object[] a;
+            if (action == null)
+                throw new NullPointerException();
+            if ((a = elementData) != null) {
+                if ((hi = fence) < 0) {
+                    mc = modCount;
+                    hi = size;
+                } else
+                    mc = expectedModCount;
+                if ((i = index) >= 0 && (index = hi) <= a.length) {
+                    for (; i < hi; ++i) {
+                        @SuppressWarnings("unchecked") E e = (E) a[i];
+                        action.accept(e);
+                    }
+                    if (modCount == mc)
+                        return;
+                }
+            }
+            throw new ConcurrentModificationException();
+        }
+
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Возвращает представление диапазона [fromIndex, toIndex) списка. Представление читает elementData
+     * напрямую со смещением, без повторных проверок индекса в методах списка; изменения через него
+     * видны в списке и наоборот. После структурного изменения списка не через представление
+     * представление бросает ConcurrentModificationException.
+     *
+     * @throws IndexOutOfBoundsException если fromIndex < 0 или toIndex > size()
+     * @throws IllegalArgumentException если fromIndex > toIndex
+     */
+    public List<E> subList(int fromIndex, int toIndex) {
+        subListRangeCheck(fromIndex, toIndex, size);
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    static void subListRangeCheck(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        if (toIndex > size)
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        if (fromIndex > toIndex)
+            throw new IllegalArgumentException(outOfBoundsMsg(fromIndex, toIndex));
+    }
+
+    /**
+     * Представление диапазона MyArrayList. Чтение идет напрямую из root.elementData по индексу offset + i;
+     * вставка, удаление и замена отдельных элементов — через методы root, а массовые операции —
+     * через диапазонные методы root (removeRange, removeIf, batchRemove, replaceAllRange, sortRange),
+     * поэтому подклассы MyArrayList видят все изменения.
+     */
+    private static class SubList<E> extends AbstractList<E> implements RandomAccess {
+        private final MyArrayList<E> root;
+        private final SubList<E> parent;
+        private final int offset;
+        private int size;
+
+        /**
+         * Создает представление диапазона [fromIndex, toIndex) списка root.
+         */
+        SubList(MyArrayList<E> root, int fromIndex, int toIndex) {
+            this.root = root;
+            this.parent = null;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+            this.modCount = root.modCount;
+        }
+
+        /**
+         * Создает представление диапазона [fromIndex, toIndex) представления parent.
+         */
+        private SubList(SubList<E> parent, int fromIndex, int toIndex) {
+            this.root = parent.root;
+            this.parent = parent;
+            this.offset = parent.offset + fromIndex;
+            this.size = toIndex - fromIndex;
+            this.modCount = root.modCount;
+        }
+
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            return root.set(offset + index, element);
+        }
+
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            return root.elementData(offset + index);
+        }
+
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        public void add(int index, E element) {
+            rangeCheckForAdd(index);
+            checkForComodification();
+            root.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        public E remove(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            E result = root.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return result;
+        }
+
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            root.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(this.size, c);
+        }
+
+        public boolean addAll(int index, Collection<? extends E> c) {
+            rangeCheckForAdd(index);
+            int cSize = c.size();
+            if (cSize == 0)
+                return false;
+            checkForComodification();
+            root.addAll(offset + index, c);
+            updateSizeAndModCount(cSize);
+            return true;
+        }
+
+        public void replaceAll(UnaryOperator<E> operator) {
+            root.replaceAllRange(operator, offset, offset + size);
+        }
+
+        public boolean removeAll(Collection<?> c) {
+            return batchRemove(c, false);
+        }
+
+        public boolean retainAll(Collection<?> c) {
+            return batchRemove(c, true);
+        }
+
+        private boolean batchRemove(Collection<?> c, boolean complement) {
+            checkForComodification();
+            int oldSize = root.size;
+            boolean modified =
+                    root.batchRemove(c, complement, offset, offset + size);
+            if (modified)
+                updateSizeAndModCount(root.size - oldSize);
+            return modified;
+        }
+
+        public boolean removeIf(Predicate<? super E> filter) {
+            checkForComodification();
+            int oldSize = root.size;
+            boolean modified = root.removeIf(filter, offset, offset + size);
+            if (modified)
+                updateSizeAndModCount(root.size - oldSize);
+            return modified;
+        }
+
+        public void sort(Comparator<? super E> c) {
+            checkForComodification();
+            root.sortRange(c, offset, offset + size);
+            updateSizeAndModCount(0);
+        }
+
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            final int expectedModCount = modCount;
+            final Object[] es = root.elementData;
+            for (int i = offset, end = offset + size; i < end; i++)
+                action.accept(elementAt(es, i));
+            if (root.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Возвращает копию диапазона одним вызовом Arrays.copyOfRange.
+         */
+        public Object[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(root.elementData, offset, offset + size);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            checkForComodification();
+            if (a.length < size)
+                return (T[]) Arrays.copyOfRange(
+                        root.elementData, offset, offset + size, a.getClass());
+            System.arraycopy(root.elementData, offset, a, 0, size);
+            if (a.length > size)
+                a[size] = null;
+            return a;
+        }
+
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof List)) {
+                return false;
+            }
+
+            boolean equal = root.equalsRange((List<?>) o, offset, offset + size);
+            checkForComodification();
+            return equal;
+        }
+
+        public int hashCode() {
+            int hash = root.hashCodeRange(offset, offset + size);
+            checkForComodification();
+            return hash;
+        }
+
+        public int indexOf(Object o) {
+            int index = root.indexOfRange(o, offset, offset + size);
+            checkForComodification();
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public int lastIndexOf(Object o) {
+            int index = root.lastIndexOfRange(o, offset, offset + size);
+            checkForComodification();
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        public Iterator<E> iterator() {
+            return listIterator();
+        }
+
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            rangeCheckForAdd(index);
+            return new SubListItr(index);
+        }
+
+        public List<E> subList(int fromIndex, int toIndex) {
+            subListRangeCheck(fromIndex, toIndex, size);
+            return new SubList<>(this, fromIndex, toIndex);
+        }
+
+        private void rangeCheckForAdd(int index) {
+            if (index < 0 || index > this.size)
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        private String outOfBoundsMsg(int index) {
+            return "Index: "+index+", Size: "+this.size;
+        }
+
+        private void checkForComodification() {
+            if (root.modCount != modCount) {
+                if (ListInstrumentation.ENABLED)
+                    ListInstrumentation.comodified(root);
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Переносит изменение размера и modCount root на это представление и всех его родителей.
+         */
+        private void updateSizeAndModCount(int sizeChange) {
+            SubList<E> slist = this;
+            do {
+                slist.size += sizeChange;
+                slist.modCount = root.modCount;
+                slist = slist.parent;
+            } while (slist != null);
+        }
+
+        /**
+         * Позднесвязывающий Spliterator по диапазону: границы и expectedModCount фиксируются
+         * при первом обходе, делении или запросе размера; части делятся через ArrayListSpliterator root.
+         */
+        public Spliterator<E> spliterator() {
+            checkForComodification();
+
+            return new Spliterator<E>() {
+                private int index = offset; // текущий индекс, изменяется при advance/split
+                private int fence = -1; // -1 до первого использования; затем индекс за последним элементом
+                private int expectedModCount; // инициализируется вместе с fence
+
+                private int getFence() {
+                    int hi;
+                    if ((hi = fence) < 0) {
+                        expectedModCount = modCount;
+                        hi = fence = offset + size;
+                    }
+                    return hi;
+                }
+
+                public MyArrayList<E>.ArrayListSpliterator trySplit() {
+                    int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                    return (lo >= mid) ? null :
+                            root.new ArrayListSpliterator(lo, index = mid, expectedModCount);
+                }
+
+                public boolean tryAdvance(Consumer<? super E> action) {
+                    Objects.requireNonNull(action);
+                    int hi = getFence(), i = index;
+                    if (i < hi) {
+                        index = i + 1;
+                        E e = elementAt(root.elementData, i);
+                        action.accept(e);
+                        if (root.modCount != expectedModCount)
+                            throw new ConcurrentModificationException();
+                        return true;
+                    }
+                    return false;
+                }
+
+                public void forEachRemaining(Consumer<? super E> action) {
+                    Objects.requireNonNull(action);
+                    int i, hi, mc;
+                    MyArrayList<E> lst = root;
+                    Object[] a;
+                    if ((a = lst.elementData) != null) {
+                        if ((hi = fence) < 0) {
+                            mc = modCount;
+                            hi = offset + size;
+                        } else
+                            mc = expectedModCount;
+                        if ((i = index) >= 0 && (index = hi) <= a.length) {
+                            for (; i < hi; ++i)
+                                action.accept(elementAt(a, i));
+                            if (lst.modCount == mc)
+                                return;
+                        }
+                    }
+                    throw new ConcurrentModificationException();
+                }
+
+                public long estimateSize() {
+                    return getFence() - index;
+                }
+
+                public int characteristics() {
+                    return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+                }
+            };
+        }
+
+        /**
+         * ListIterator по диапазону, читающий root.elementData напрямую.
+         */
+        private class SubListItr implements ListIterator<E> {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = SubList.this.modCount;
+
+            SubListItr(int index) {
+                cursor = index;
+            }
+
+            public boolean hasNext() {
+                return cursor != SubList.this.size;
+            }
+
+            public E next() {
+                checkForComodification();
+                int i = cursor;
+                if (i >= SubList.this.size)
+                    throw new NoSuchElementException();
+                Object[] elementData = root.elementData;
+                if (offset + i >= elementData.length)
+                    throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return elementAt(elementData, offset + (lastRet = i));
+            }
+
+            public boolean hasPrevious() {
+                return cursor != 0;
+            }
+
+            public E previous() {
+                checkForComodification();
+                int i = cursor - 1;
+                if (i < 0)
+                    throw new NoSuchElementException();
+                Object[] elementData = root.elementData;
+                if (offset + i >= elementData.length)
+                    throw new ConcurrentModificationException();
+                cursor = i;
+                return elementAt(elementData, offset + (lastRet = i));
+            }
+
+            public void forEachRemaining(Consumer<? super E> action) {
+                Objects.requireNonNull(action);
+                final int size = SubList.this.size;
+                int i = cursor;
+                if (i < size) {
+                    final Object[] es = root.elementData;
+                    if (offset + i >= es.length)
+                        throw new ConcurrentModificationException();
+                    for (; i < size && root.modCount == expectedModCount; i++)
+                        action.accept(elementAt(es, offset + i));
+                    cursor = i;
+                    lastRet = i - 1;
+                    checkForComodification();
+                }
+            }
+
+            public int nextIndex() {
+                return cursor;
+            }
+
+            public int previousIndex() {
+                return cursor - 1;
+            }
+
+            public void remove() {
+                if (lastRet < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+
+                try {
+                    SubList.this.remove(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = SubList.this.modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void set(E e) {
+                if (lastRet < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+
+                try {
+                    root.set(offset + lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void add(E e) {
+                checkForComodification();
+
+                try {
+                    int i = cursor;
+                    SubList.this.add(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = SubList.this.modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if (root.modCount != expectedModCount) {
+                    if (ListInstrumentation.ENABLED)
+                        ListInstrumentation.comodified(root);
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
     // Оптимизированная версия AbstractList.Itr
     private class Itr implements Iterator<E> {
         int cursor;
@@ -641,8 +1940,11 @@ public class MyArrayList<E> extends AbstractList<E>
         }
 
         final void checkForComodification() {
-            if (modCount != expectedModCount)
+            if (modCount != expectedModCount) {
+                if (ListInstrumentation.ENABLED)
+                    ListInstrumentation.comodified(MyArrayList.this);
                 throw new ConcurrentModificationException();
+            }
         }
     }
 
@@ -0,0 +1,549 @@
+package ru.skypro;
+import java.util.*;
+import java.util.function.Consumer;
+
+
+/**
+ * Сегментированный список с индексами типа long.
+ *
+ * Элементы хранятся в каталоге блоков (chunks) фиксированной длины CHUNK_SIZE. В отличие от MyArrayList,
+ * рост не копирует элементы: при заполнении последнего блока выделяется новый блок, а каталог
+ * (массив ссылок на блоки) удваивается, что копирует только ссылки на блоки. Поэтому размер списка
+ * не ограничен длиной одного массива, и большие списки растут без пауз на копирование и без
+ * временного удвоения памяти.
+ *
+ * Позиционный доступ по long-индексу: {@link #get(long)}, {@link #set(long, Object)},
+ * {@link #add(long, Object)}, {@link #remove(long)}, размер — {@link #size64()}.
+ * Методы List с int-индексами работают, пока размер меньше 2^31; size() для больших списков
+ * возвращает Integer.MAX_VALUE, как требует Collection.size.
+ *
+ * Spliterator делит диапазон по границам блоков, поэтому подзадачи параллельного потока
+ * обходят целые блоки.
+ */
+public class MyBigArrayList<E> extends AbstractList<E>
+        implements List<E>, RandomAccess, java.io.Serializable
+{
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     Двоичный логарифм длины блока
+     */
+    static final int CHUNK_SHIFT = 16;
+
+    /**
+     Длина блока в элементах
+     */
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     Начальная длина каталога блоков
+     */
+    private static final int DEFAULT_DIRECTORY_LENGTH = 8;
+
+    /**
+     Каталог блоков. Блоки [0, chunkCount) выделены; остальные ячейки null
+     */
+    private transient Object[][] chunks;
+
+    /**
+     Количество выделенных блоков
+     */
+    private transient int chunkCount;
+
+    /**
+    Размер списка (кол-во элементов в списке)
+    */
+    private transient long size;
+
+    /**
+     * Создание пустого списка.
+     */
+    public MyBigArrayList() {
+        chunks = new Object[DEFAULT_DIRECTORY_LENGTH][];
+    }
+
+    /**
+     * Создает список, содержащий элементы указанной коллекции
+     * в том порядке, в котором они были возвращены итератором
+     */
+    public MyBigArrayList(Collection<? extends E> c) {
+        this();
+        addAll(c);
+    }
+
+    private static int chunkIndex(long index) {
+        return (int) (index >>> CHUNK_SHIFT);
+    }
+
+    private static int offset(long index) {
+        return (int) index & CHUNK_MASK;
+    }
+
+    /**
+     * Гарантирует, что выделены блоки для minCapacity элементов. Существующие блоки не копируются.
+     */
+    public void ensureCapacity(long minCapacity) {
+        if (minCapacity <= (long) chunkCount << CHUNK_SHIFT)
+            return;
+        final long needed = (minCapacity + CHUNK_MASK) >>> CHUNK_SHIFT;
+        if (needed > Integer.MAX_VALUE - 8)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика: " + minCapacity);
+        final int n = (int) needed;
+        if (n > chunks.length) {
+            // Каталог удваивается: копируются только ссылки на блоки
+            int newLength = Math.max(n, chunks.length << 1);
+            if (newLength < 0 || newLength > Integer.MAX_VALUE - 8)
+                newLength = Integer.MAX_VALUE - 8;
+            chunks = Arrays.copyOf(chunks, newLength);
+        }
+        for (int k = chunkCount; k < n; k++)
+            chunks[k] = new Object[CHUNK_SIZE];
+        chunkCount = n;
+    }
+
+    /**
+     * Освобождает блоки, в которых нет элементов, и уменьшает каталог.
+     */
+    public void trimToSize() {
+        modCount++;
+        final int used = (int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT);
+        for (int k = used; k < chunkCount; k++)
+            chunks[k] = null;
+        chunkCount = used;
+        if (chunks.length > Math.max(used, DEFAULT_DIRECTORY_LENGTH))
+            chunks = Arrays.copyOf(chunks, Math.max(used, DEFAULT_DIRECTORY_LENGTH));
+    }
+
+    /**
+     * Возвращает количество выделенных блоков.
+     */
+    public int chunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Возвращает размер списка как long.
+     */
+    public long size64() {
+        return size;
+    }
+
+    /**
+     * Возвращает размер списка или Integer.MAX_VALUE, если элементов больше.
+     */
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Операции позиционного доступа
+
+    @SuppressWarnings("unchecked")
+    private E elementData(long index) {
+        return (E) chunks[chunkIndex(index)][offset(index)];
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     */
+    public E get(long index) {
+        Objects.checkIndex(index, size);
+        return elementData(index);
+    }
+
+    public E get(int index) {
+        return get((long) index);
+    }
+
+    /**
+     * Заменяет элемент по указанному индексу. Возвращает прежнее значение.
+     */
+    public E set(long index, E element) {
+        Objects.checkIndex(index, size);
+        final Object[] chunk = chunks[chunkIndex(index)];
+        final int i = offset(index);
+        @SuppressWarnings("unchecked") E oldValue = (E) chunk[i];
+        chunk[i] = element;
+        return oldValue;
+    }
+
+    public E set(int index, E element) {
+        return set((long) index, element);
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Если последний блок заполнен, выделяется новый; элементы не копируются.
+     */
+    public boolean add(E e) {
+        modCount++;
+        final long s = size;
+        if (offset(s) == 0 && chunkIndex(s) == chunkCount)
+            ensureCapacity(s + 1);
+        chunks[chunkIndex(s)][offset(s)] = e;
+        size = s + 1;
+        return true;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию, сдвигая последующие элементы вправо.
+     * Сдвиг выполняется по одному arraycopy на блок с переносом крайнего элемента в следующий блок.
+     */
+    public void add(long index, E element) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        add(null);
+        shiftRight(index, size - 1);
+        chunks[chunkIndex(index)][offset(index)] = element;
+    }
+
+    public void add(int index, E element) {
+        add((long) index, element);
+    }
+
+    /**
+     * Сдвигает элементы [from, to) на одну позицию вправо (элемент to перезаписывается).
+     */
+    private void shiftRight(long from, long to) {
+        int k = chunkIndex(to);
+        final int first = chunkIndex(from);
+        while (k > first) {
+            final Object[] chunk = chunks[k];
+            System.arraycopy(chunk, 0, chunk, 1, offset(to));
+            chunk[0] = chunks[k - 1][CHUNK_MASK];
+            to = ((long) k << CHUNK_SHIFT) - 1;
+            k--;
+        }
+        final Object[] chunk = chunks[first];
+        final int lo = offset(from);
+        System.arraycopy(chunk, lo, chunk, lo + 1, offset(to) - lo);
+    }
+
+    /**
+     * Сдвигает элементы (from, to) на одну позицию влево (элемент from перезаписывается).
+     */
+    private void shiftLeft(long from, long to) {
+        int k = chunkIndex(from);
+        final int last = chunkIndex(to - 1);
+        while (k < last) {
+            final Object[] chunk = chunks[k];
+            final int lo = offset(from);
+            System.arraycopy(chunk, lo + 1, chunk, lo, CHUNK_MASK - lo);
+            chunk[CHUNK_MASK] = chunks[k + 1][0];
+            k++;
+            from = (long) k << CHUNK_SHIFT;
+        }
+        final Object[] chunk = chunks[last];
+        final int lo = offset(from);
+        System.arraycopy(chunk, lo + 1, chunk, lo, offset(to - 1) - lo);
+    }
+
+    /**
+     * Удаляет элемент в указанной позиции, сдвигая последующие элементы влево. Возвращает удаленный элемент.
+     */
+    public E remove(long index) {
+        Objects.checkIndex(index, size);
+        final E oldValue = elementData(index);
+        modCount++;
+        final long s = size - 1;
+        if (index < s)
+            shiftLeft(index, s + 1);
+        chunks[chunkIndex(s)][offset(s)] = null;
+        size = s;
+        return oldValue;
+    }
+
+    public E remove(int index) {
+        return remove((long) index);
+    }
+
+    /**
+     * Удаляет элементы в диапазоне [fromIndex, toIndex), перенося хвост за один проход.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+        modCount++;
+        final long s = size, newSize = s - (toIndex - fromIndex);
+        for (long i = toIndex, j = fromIndex; i < s; i++, j++)
+            chunks[chunkIndex(j)][offset(j)] = chunks[chunkIndex(i)][offset(i)];
+        for (long i = newSize; i < s; i++)
+            chunks[chunkIndex(i)][offset(i)] = null;
+        size = newSize;
+    }
+
+    /**
+     * Удаляет все элементы. Выделенные блоки освобождаются, кроме первого.
+     */
+    public void clear() {
+        modCount++;
+        if (chunkCount > 0) {
+            Arrays.fill(chunks[0], 0, (int) Math.min(size, CHUNK_SIZE), null);
+            for (int k = 1; k < chunkCount; k++)
+                chunks[k] = null;
+            chunkCount = 1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Добавляет элементы коллекции в конец списка, заранее выделяя нужные блоки.
+     * Элементы копируются в блоки отрезками по arraycopy.
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        final Object[] a = c.toArray();
+        modCount++;
+        if (a.length == 0)
+            return false;
+        ensureCapacity(size + a.length);
+        long s = size;
+        for (int done = 0; done < a.length; ) {
+            final int off = offset(s);
+            final int n = Math.min(CHUNK_SIZE - off, a.length - done);
+            System.arraycopy(a, done, chunks[chunkIndex(s)], off, n);
+            done += n;
+            s += n;
+        }
+        size = s;
+        return true;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf64(o) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента или -1.
+     */
+    public long indexOf64(Object o) {
+        for (int k = 0; (long) k << CHUNK_SHIFT < size; k++) {
+            final Object[] chunk = chunks[k];
+            final int end = (int) Math.min(CHUNK_SIZE, size - ((long) k << CHUNK_SHIFT));
+            for (int i = 0; i < end; i++)
+                if (Objects.equals(o, chunk[i]))
+                    return ((long) k << CHUNK_SHIFT) + i;
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента или -1.
+     */
+    public long lastIndexOf64(Object o) {
+        for (long i = size - 1; i >= 0; i--)
+            if (Objects.equals(o, chunks[chunkIndex(i)][offset(i)]))
+                return i;
+        return -1;
+    }
+
+    public int indexOf(Object o) {
+        return (int) Math.min(indexOf64(o), Integer.MAX_VALUE);
+    }
+
+    public int lastIndexOf(Object o) {
+        return (int) Math.min(lastIndexOf64(o), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Выполняет действие для каждого элемента, обходя блоки по порядку.
+     */
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        forEachRange(0, size, action);
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forEachRange(long from, long to, Consumer<? super E> action) {
+        while (from < to) {
+            final Object[] chunk = chunks[chunkIndex(from)];
+            final int lo = offset(from);
+            final int hi = (int) Math.min(CHUNK_SIZE, lo + (to - from));
+            for (int i = lo; i < hi; i++)
+                action.accept((E) chunk[i]);
+            from += hi - lo;
+        }
+    }
+
+    public Object[] toArray() {
+        if (size > Integer.MAX_VALUE - 8)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика: " + size);
+        final Object[] a = new Object[(int) size];
+        for (int k = 0, done = 0; done < a.length; k++) {
+            final int n = Math.min(CHUNK_SIZE, a.length - done);
+            System.arraycopy(chunks[k], 0, a, done, n);
+            done += n;
+        }
+        return a;
+    }
+
+    /**
+     * Создает подробное сообщение IndexOutOfBoundsException.
+     */
+    private String outOfBoundsMsg(long index) {
+        return "Index: "+index+", Size: "+size;
+    }
+
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Итератор с long-курсором; работает и для списков длиннее Integer.MAX_VALUE.
+     */
+    private class Itr implements Iterator<E> {
+        long cursor;       // индекс следующего элемента
+        long lastRet = -1; // индекс последнего возвращенного элемента; -1, если его нет
+        int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        public E next() {
+            checkForComodification();
+            final long i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            cursor = i + 1;
+            return elementData(lastRet = i);
+        }
+
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            MyBigArrayList.this.remove(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Создает позднесвязывающий и отказоустойчивый (fail-fast) Spliterator, делящийся по границам блоков.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new BigListSpliterator(0, -1, 0);
+    }
+
+    /** Spliterator по диапазону long-индексов, делящийся по границам блоков */
+    final class BigListSpliterator implements Spliterator<E> {
+        private long index; // текущий индекс, изменяется при advance/split
+        private long fence; // -1 до первого использования; затем индекс за последним элементом
+        private int expectedModCount; // инициализируется вместе с fence
+
+        BigListSpliterator(long origin, long fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private long getFence() {
+            long hi;
+            if ((hi = fence) < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        /**
+         * Делит диапазон в середине, округленной вниз до границы блока; диапазон внутри одного блока
+         * делится пополам.
+         */
+        public BigListSpliterator trySplit() {
+            final long hi = getFence(), lo = index;
+            long mid = (lo + hi) >>> 1;
+            final long aligned = mid & ~(long) CHUNK_MASK;
+            if (aligned > lo)
+                mid = aligned;
+            else if (((lo & ~(long) CHUNK_MASK) + CHUNK_SIZE) < hi)
+                mid = (lo & ~(long) CHUNK_MASK) + CHUNK_SIZE;
+            return (lo >= mid) ? null :
+                    new BigListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null)
+                throw new NullPointerException();
+            final long hi = getFence(), i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept(elementData(i));
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null)
+                throw new NullPointerException();
+            final long hi = getFence(), lo = index;
+            index = hi;
+            forEachRange(lo, hi, action);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Сохраняет размер и элементы списка в поток.
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+
+        s.writeLong(size);
+
+        for (long i = 0; i < size; i++) {
+            s.writeObject(elementData(i));
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Восстанавливает список из потока.
+     */
+    @java.io.Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+
+        final long size = s.readLong();
+        if (size < 0)
+            throw new java.io.InvalidObjectException("Некорректный размер: " + size);
+        chunks = new Object[DEFAULT_DIRECTORY_LENGTH][];
+        for (long i = 0; i < size; i++)
+            add((E) s.readObject());
+    }
+}
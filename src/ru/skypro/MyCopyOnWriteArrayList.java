@@ -0,0 +1,528 @@
+package ru.skypro;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * Потокобезопасный вариант MyArrayList с копированием при записи (copy-on-write).
+ *
+ * Элементы хранятся в неизменяемом массиве, ссылка на который volatile. Чтение (get, size,
+ * indexOf, contains, обход) не берет блокировок и работает с текущим снимком массива.
+ * Итераторы и spliterator обходят снимок, сделанный при их создании, и никогда не бросают
+ * ConcurrentModificationException; операции изменения через итератор не поддерживаются.
+ *
+ * Каждое изменение выполняется под блокировкой и публикует новый массив. Чтобы N изменений
+ * стоили одного копирования, используйте {@link #mutate(Consumer)}: действие получает рабочую
+ * копию в виде MyArrayList, и ее содержимое публикуется одним присваиванием.
+ */
+public class MyCopyOnWriteArrayList<E> extends AbstractList<E>
+        implements List<E>, RandomAccess, Cloneable, java.io.Serializable
+{
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final Object[] EMPTY_ELEMENTDATA = {};
+
+    /**
+     Блокировка, под которой выполняются все изменения
+     */
+    private transient Object lock = new Object();
+
+    /**
+     Текущий снимок элементов; длина массива равна размеру списка. Массив после публикации не изменяется
+     */
+    private transient volatile Object[] array;
+
+    /**
+     * Создает пустой список.
+     */
+    public MyCopyOnWriteArrayList() {
+        array = EMPTY_ELEMENTDATA;
+    }
+
+    /**
+     * Создает список, содержащий элементы указанной коллекции
+     * в том порядке, в котором они были возвращены итератором
+     */
+    public MyCopyOnWriteArrayList(Collection<? extends E> c) {
+        Object[] a = c.toArray();
+        array = (a.length == 0) ? EMPTY_ELEMENTDATA : Arrays.copyOf(a, a.length, Object[].class);
+    }
+
+    final Object[] getArray() {
+        return array;
+    }
+
+    final void setArray(Object[] a) {
+        array = a;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> E elementAt(Object[] a, int index) {
+        return (E) a[index];
+    }
+
+    /**
+     * Выполняет action над рабочей копией списка и атомарно публикует результат.
+     * Рабочая копия — MyArrayList, поэтому рост массива, addAll, удаление и сортировка
+     * выполняются его методами без промежуточных публикаций. Если action бросает исключение,
+     * список не меняется. Ссылку на рабочую копию нельзя сохранять после выхода из action.
+     */
+    public void mutate(Consumer<? super List<E>> action) {
+        Objects.requireNonNull(action);
+        synchronized (lock) {
+            final Object[] es = getArray();
+            MyArrayList<E> work = new MyArrayList<>(es.clone(), es.length);
+            action.accept(work);
+            setArray(work.trimmedElementData());
+            modCount++;
+        }
+    }
+
+    /**
+     * Выполняет predicate над рабочей копией (как mutate) и публикует ее, только если predicate вернул true.
+     */
+    private boolean mutateIf(Predicate<MyArrayList<E>> action) {
+        synchronized (lock) {
+            final Object[] es = getArray();
+            MyArrayList<E> work = new MyArrayList<>(es.clone(), es.length);
+            if (!action.test(work))
+                return false;
+            setArray(work.trimmedElementData());
+            modCount++;
+            return true;
+        }
+    }
+
+    // Возвращает размер списка
+    public int size() {
+        return getArray().length;
+    }
+
+    // Проверить список на наличие в нем элементов. Возвращает true или false
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Проверяет, содержится ли элемент o в списке. Возвращает true или false
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в списке
+     * или -1, если список не содержит данный элемент
+     */
+    public int indexOf(Object o) {
+        final Object[] es = getArray();
+        return indexOfRange(o, es, 0, es.length);
+    }
+
+    private static int indexOfRange(Object o, Object[] es, int start, int end) {
+        if (o == null) {
+            for (int i = start; i < end; i++)
+                if (es[i] == null)
+                    return i;
+        } else {
+            for (int i = start; i < end; i++)
+                if (o.equals(es[i]))
+                    return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента в списке
+     * или -1, если список не содержит данный элемент
+     */
+    public int lastIndexOf(Object o) {
+        final Object[] es = getArray();
+        if (o == null) {
+            for (int i = es.length - 1; i >= 0; i--)
+                if (es[i] == null)
+                    return i;
+        } else {
+            for (int i = es.length - 1; i >= 0; i--)
+                if (o.equals(es[i]))
+                    return i;
+        }
+        return -1;
+    }
+
+    // Возвращает элемент по указанному индексу в списке
+    public E get(int index) {
+        return elementAt(getArray(), index);
+    }
+
+    // Заменяет элемент списка по указанному индексу на указанный элемент
+    public E set(int index, E element) {
+        synchronized (lock) {
+            Object[] es = getArray();
+            E oldValue = elementAt(es, index);
+            if (oldValue != element) {
+                es = es.clone();
+                es[index] = element;
+            }
+            // Публикуем массив даже без изменений, чтобы сохранить семантику volatile-записи
+            setArray(es);
+            return oldValue;
+        }
+    }
+
+    // Добавляет указанный элемент в конец списка
+    public boolean add(E e) {
+        synchronized (lock) {
+            Object[] es = getArray();
+            int len = es.length;
+            es = Arrays.copyOf(es, len + 1);
+            es[len] = e;
+            setArray(es);
+            modCount++;
+            return true;
+        }
+    }
+
+    /**
+     * Вставляет указанный элемент element в указанную позицию index в этом списке.
+     */
+    public void add(int index, E element) {
+        synchronized (lock) {
+            Object[] es = getArray();
+            int len = es.length;
+            if (index > len || index < 0)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + len);
+            Object[] newElements = new Object[len + 1];
+            System.arraycopy(es, 0, newElements, 0, index);
+            System.arraycopy(es, index, newElements, index + 1, len - index);
+            newElements[index] = element;
+            setArray(newElements);
+            modCount++;
+        }
+    }
+
+    /**
+     * Добавляет элемент, если его еще нет в списке. Возвращает true, если элемент добавлен.
+     */
+    public boolean addIfAbsent(E e) {
+        final Object[] snapshot = getArray();
+        return indexOfRange(e, snapshot, 0, snapshot.length) < 0
+                && addIfAbsent(e, snapshot);
+    }
+
+    private boolean addIfAbsent(E e, Object[] snapshot) {
+        synchronized (lock) {
+            Object[] current = getArray();
+            int len = current.length;
+            if (snapshot != current) {
+                // Проверяем только то, что изменилось после снимка
+                int common = Math.min(snapshot.length, len);
+                for (int i = 0; i < common; i++)
+                    if (current[i] != snapshot[i] && Objects.equals(e, current[i]))
+                        return false;
+                if (indexOfRange(e, current, common, len) >= 0)
+                    return false;
+            }
+            Object[] newElements = Arrays.copyOf(current, len + 1);
+            newElements[len] = e;
+            setArray(newElements);
+            modCount++;
+            return true;
+        }
+    }
+
+    /**
+     * Удаляет элемент в указанной позиции index в списке.
+     */
+    public E remove(int index) {
+        synchronized (lock) {
+            Object[] es = getArray();
+            int len = es.length;
+            E oldValue = elementAt(es, index);
+            int numMoved = len - index - 1;
+            Object[] newElements;
+            if (numMoved == 0)
+                newElements = Arrays.copyOf(es, len - 1);
+            else {
+                newElements = new Object[len - 1];
+                System.arraycopy(es, 0, newElements, 0, index);
+                System.arraycopy(es, index + 1, newElements, index, numMoved);
+            }
+            setArray(newElements);
+            modCount++;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из списка (если таковой присутствует в списке)
+     */
+    public boolean remove(Object o) {
+        final Object[] snapshot = getArray();
+        final int index = indexOfRange(o, snapshot, 0, snapshot.length);
+        return (index >= 0) && remove(o, snapshot, index);
+    }
+
+    private boolean remove(Object o, Object[] snapshot, int index) {
+        synchronized (lock) {
+            Object[] current = getArray();
+            int len = current.length;
+            if (snapshot != current) {
+                // Снимок устарел: ищем элемент заново в текущем массиве
+                index = indexOfRange(o, current, 0, len);
+                if (index < 0)
+                    return false;
+            }
+            Object[] newElements = new Object[len - 1];
+            System.arraycopy(current, 0, newElements, 0, index);
+            System.arraycopy(current, index + 1, newElements, index, len - index - 1);
+            setArray(newElements);
+            modCount++;
+            return true;
+        }
+    }
+
+    /**
+     * Удаляет все элементы в списке.
+     */
+    public void clear() {
+        synchronized (lock) {
+            setArray(EMPTY_ELEMENTDATA);
+            modCount++;
+        }
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка одним копированием массива.
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] cs = c.toArray();
+        if (cs.length == 0)
+            return false;
+        synchronized (lock) {
+            Object[] es = getArray();
+            int len = es.length;
+            Object[] newElements = Arrays.copyOf(es, len + cs.length);
+            System.arraycopy(cs, 0, newElements, len, cs.length);
+            setArray(newElements);
+            modCount++;
+            return true;
+        }
+    }
+
+    /**
+     * Добавляет все элементы коллекции начиная с позиции index (через MyArrayList.addAll над рабочей копией).
+     */
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Objects.requireNonNull(c);
+        return mutateIf(work -> work.addAll(index, c));
+    }
+
+    /**
+     * Удаляет из списка все элементы, содержащиеся в указанной коллекции.
+     */
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return mutateIf(work -> work.removeAll(c));
+    }
+
+    /**
+     * Оставляет в списке только элементы, содержащиеся в указанной коллекции.
+     */
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return mutateIf(work -> work.retainAll(c));
+    }
+
+    /**
+     * Удаляет все элементы списка, удовлетворяющие указанному предикату.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return mutateIf(work -> work.removeIf(filter));
+    }
+
+    /**
+     * Заменяет каждый элемент списка результатом применения operator к нему.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        mutate(work -> work.replaceAll(operator));
+    }
+
+    /**
+     * Сортирует список.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        mutate(work -> work.sort(c));
+    }
+
+    /**
+     * Выполняет action для каждого элемента текущего снимка.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object x : getArray()) {
+            @SuppressWarnings("unchecked") E e = (E) x;
+            action.accept(e);
+        }
+    }
+
+    /**
+     * Возвращает копию текущего снимка элементов.
+     */
+    public Object[] toArray() {
+        return getArray().clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        final Object[] es = getArray();
+        final int len = es.length;
+        if (a.length < len)
+            return (T[]) Arrays.copyOf(es, len, a.getClass());
+        System.arraycopy(es, 0, a, 0, len);
+        if (a.length > len)
+            a[len] = null;
+        return a;
+    }
+
+    /**
+     * Возвращает итератор по снимку списка на момент вызова.
+     * Итератор не бросает ConcurrentModificationException и не поддерживает remove.
+     */
+    public Iterator<E> iterator() {
+        return new COWIterator<>(getArray(), 0);
+    }
+
+    public ListIterator<E> listIterator() {
+        return new COWIterator<>(getArray(), 0);
+    }
+
+    public ListIterator<E> listIterator(int index) {
+        final Object[] es = getArray();
+        if (index < 0 || index > es.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + es.length);
+        return new COWIterator<>(es, index);
+    }
+
+    /**
+     * Возвращает spliterator по снимку списка на момент вызова.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(getArray(), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /** Итератор по неизменяемому снимку массива */
+    static final class COWIterator<E> implements ListIterator<E> {
+        private final Object[] snapshot;
+        private int cursor;
+
+        COWIterator(Object[] snapshot, int initialCursor) {
+            this.snapshot = snapshot;
+            this.cursor = initialCursor;
+        }
+
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        public E next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return elementAt(snapshot, cursor++);
+        }
+
+        public E previous() {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            return elementAt(snapshot, --cursor);
+        }
+
+        public int nextIndex() {
+            return cursor;
+        }
+
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void add(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            final int size = snapshot.length;
+            int i = cursor;
+            cursor = size;
+            for (; i < size; i++)
+                action.accept(elementAt(snapshot, i));
+        }
+    }
+
+    // Возвращает копию списка; сами элементы не копируются
+    public Object clone() {
+        try {
+            @SuppressWarnings("unchecked")
+            MyCopyOnWriteArrayList<E> clone = (MyCopyOnWriteArrayList<E>) super.clone();
+            clone.lock = new Object();
+            clone.modCount = 0;
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            // этого не должно происходить, так как мы Cloneable
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Сохраняет снимок списка в поток.
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        s.defaultWriteObject();
+
+        final Object[] es = getArray();
+        s.writeInt(es.length);
+        for (Object element : es)
+            s.writeObject(element);
+    }
+
+    /**
+     * Восстанавливает список из потока.
+     */
+    @java.io.Serial
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+
+        lock = new Object();
+        int len = s.readInt();
+        if (len < 0)
+            throw new java.io.InvalidObjectException("Некорректный размер: " + len);
+        Object[] es = new Object[len];
+        for (int i = 0; i < len; i++)
+            es[i] = s.readObject();
+        setArray(es);
+    }
+}
@@ -0,0 +1,465 @@
+package ru.skypro;
+import java.util.*;
+import java.util.function.Consumer;
+import jdk.internal.util.ArraysSupport;
+
+
+/**
+ * Список на массиве с подвижным разрывом (gap buffer) для правок рядом с курсором.
+ *
+ * Свободные ячейки массива собраны в один разрыв [gapStart, gapEnd), который стоит в позиции
+ * последней правки (курсоре). Вставка и удаление в позиции курсора выполняются за O(1);
+ * правка в другой позиции сначала переносит разрыв туда, копируя только элементы между старой
+ * и новой позицией, то есть за O(расстояния). Доступ по индексу (get/set) остается O(1):
+ * индексы правее курсора смещаются на длину разрыва.
+ *
+ * Емкость растет по GrowthPolicy, как у MyArrayList; при росте разрыв расширяется на месте курсора.
+ * Для массового чтения без копирования элементы диапазона доступны как два отрезка массива
+ * (до и после разрыва), см. {@link #forEachSlice(int, int, SliceConsumer)}.
+ */
+public class MyGapList<E> extends AbstractList<E>
+        implements List<E>, RandomAccess, Cloneable, java.io.Serializable
+{
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final Object[] EMPTY_ELEMENTDATA = {};
+
+    /**
+     Буфер с элементами и разрывом. Элементы занимают [0, gapStart) и [gapEnd, elementData.length)
+     */
+    transient Object[] elementData;
+
+    /**
+     Начало разрыва; совпадает с индексом курсора
+     */
+    private transient int gapStart;
+
+    /**
+     Конец разрыва (не включительно)
+     */
+    private transient int gapEnd;
+
+    /**
+    Политика изменения емкости elementData
+    */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Создает пустой список с начальной емкостью 10.
+     */
+    public MyGapList() {
+        this(GrowthPolicy.DEFAULT_CAPACITY, GrowthPolicy.oneAndHalf());
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     *
+     * @throws IllegalArgumentException если initialCapacity < 0
+     */
+    public MyGapList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.oneAndHalf());
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и политикой изменения емкости.
+     *
+     * @throws IllegalArgumentException если initialCapacity < 0
+     */
+    public MyGapList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Некорректное значение: " + initialCapacity);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.elementData = (initialCapacity == 0) ? EMPTY_ELEMENTDATA : new Object[initialCapacity];
+        this.gapEnd = initialCapacity;
+    }
+
+    /**
+     * Создает список, содержащий элементы указанной коллекции
+     * в том порядке, в котором они были возвращены итератором; курсор стоит в конце.
+     */
+    public MyGapList(Collection<? extends E> c) {
+        this(0, GrowthPolicy.oneAndHalf());
+        addAll(c);
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    // Возвращает размер списка
+    public int size() {
+        return elementData.length - gapLength();
+    }
+
+    /**
+     * Возвращает позицию курсора (индекс, перед которым стоит разрыв).
+     */
+    public int cursor() {
+        return gapStart;
+    }
+
+    /**
+     * Переносит курсор (разрыв) в позицию index за O(|index - cursor()|).
+     * Содержимое списка не меняется.
+     */
+    public void moveCursor(int index) {
+        rangeCheckForAdd(index);
+        moveGap(index);
+    }
+
+    /**
+     * Возвращает текущую емкость буфера.
+     */
+    public int capacity() {
+        return elementData.length;
+    }
+
+    /**
+     * Переносит разрыв так, чтобы он начинался в позиции index, копируя элементы между
+     * старой и новой позицией разрыва. Освободившиеся ячейки обнуляются.
+     */
+    private void moveGap(int index) {
+        final Object[] es = elementData;
+        final int start = gapStart, end = gapEnd;
+        if (index < start) {
+            final int n = start - index;
+            System.arraycopy(es, index, es, end - n, n);
+            Arrays.fill(es, index, Math.min(start, end - n), null);
+            gapStart = index;
+            gapEnd = end - n;
+        } else if (index > start) {
+            final int n = index - start;
+            System.arraycopy(es, end, es, start, n);
+            Arrays.fill(es, Math.max(end, index), end + n, null);
+            gapStart = index;
+            gapEnd = end + n;
+        }
+    }
+
+    /**
+     * Гарантирует, что в разрыве не меньше minGap свободных ячеек, увеличивая буфер по политике.
+     * Элементы правее разрыва переносятся в конец нового буфера.
+     */
+    private void ensureGap(int minGap) {
+        final int gap = gapLength();
+        if (gap >= minGap)
+            return;
+        final Object[] es = elementData;
+        final int oldCapacity = es.length;
+        final int minCapacity = oldCapacity - gap + minGap;
+        if (minCapacity < 0)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика");
+        final int newCapacity = (oldCapacity == 0)
+                ? Math.max(minCapacity, growthPolicy.initialCapacity(minCapacity))
+                : ArraysSupport.newLength(oldCapacity,
+                        minCapacity - oldCapacity, /* минимальный рост */
+                        growthPolicy.preferredGrowth(oldCapacity, minCapacity) /* предпочтительный рост */);
+        final Object[] a = new Object[newCapacity];
+        final int tail = oldCapacity - gapEnd;
+        System.arraycopy(es, 0, a, 0, gapStart);
+        System.arraycopy(es, gapEnd, a, newCapacity - tail, tail);
+        elementData = a;
+        gapEnd = newCapacity - tail;
+    }
+
+    /**
+     * Увеличивает емкость при необходимости, чтобы гарантированно вместить minCapacity элементов.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length) {
+            modCount++;
+            ensureGap(minCapacity - size());
+        }
+    }
+
+    /**
+     * Обрезает емкость до текущего размера (разрыв исчезает).
+     */
+    public void trimToSize() {
+        modCount++;
+        if (gapLength() > 0) {
+            final int size = size();
+            final Object[] a = (size == 0) ? EMPTY_ELEMENTDATA : new Object[size];
+            final int tail = elementData.length - gapEnd;
+            System.arraycopy(elementData, 0, a, 0, gapStart);
+            System.arraycopy(elementData, gapEnd, a, gapStart, tail);
+            elementData = a;
+            gapEnd = gapStart;
+        }
+    }
+
+    // Операции позиционного доступа
+
+    /**
+     * Возвращает индекс ячейки массива для элемента с индексом index.
+     */
+    private int physical(int index) {
+        return (index < gapStart) ? index : index + gapLength();
+    }
+
+    @SuppressWarnings("unchecked")
+    E elementData(int index) {
+        return (E) elementData[physical(index)];
+    }
+
+    // Возвращает элемент по указанному индексу в списке
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        return elementData(index);
+    }
+
+    // Заменяет элемент списка по указанному индексу на указанный элемент
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size());
+        final int i = physical(index);
+        @SuppressWarnings("unchecked") E oldValue = (E) elementData[i];
+        elementData[i] = element;
+        return oldValue;
+    }
+
+    // Добавляет указанный элемент в конец списка
+    public boolean add(E e) {
+        add(size(), e);
+        return true;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию и ставит курсор за ним.
+     * В позиции курсора выполняется за O(1), не считая роста буфера.
+     */
+    public void add(int index, E element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        moveGap(index);
+        ensureGap(1);
+        elementData[gapStart++] = element;
+    }
+
+    /**
+     * Удаляет элемент в указанной позиции и ставит курсор на его место. Возвращает удаленный элемент.
+     * В позиции курсора выполняется за O(1).
+     */
+    public E remove(int index) {
+        Objects.checkIndex(index, size());
+        modCount++;
+        moveGap(index);
+        @SuppressWarnings("unchecked") E oldValue = (E) elementData[gapEnd];
+        elementData[gapEnd++] = null;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элементы в диапазоне [fromIndex, toIndex), присоединяя их к разрыву.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+        modCount++;
+        moveGap(fromIndex);
+        final int end = gapEnd + (toIndex - fromIndex);
+        Arrays.fill(elementData, gapEnd, end, null);
+        gapEnd = end;
+    }
+
+    /**
+     * Удаляет все элементы. Емкость сохраняется, курсор переходит в начало.
+     */
+    public void clear() {
+        modCount++;
+        Arrays.fill(elementData, null);
+        gapStart = 0;
+        gapEnd = elementData.length;
+    }
+
+    /**
+     * Добавляет элементы коллекции в конец списка.
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * Вставляет элементы коллекции в указанную позицию одним arraycopy в разрыв; курсор ставится за ними.
+     */
+    public boolean addAll(int index, Collection<? extends E> c) {
+        rangeCheckForAdd(index);
+        final Object[] a = c.toArray();
+        modCount++;
+        final int n = a.length;
+        if (n == 0)
+            return false;
+        moveGap(index);
+        ensureGap(n);
+        System.arraycopy(a, 0, elementData, gapStart, n);
+        gapStart += n;
+        return true;
+    }
+
+    public int indexOf(Object o) {
+        final Object[] es = elementData;
+        for (int i = 0; i < gapStart; i++)
+            if (Objects.equals(o, es[i]))
+                return i;
+        for (int i = gapEnd; i < es.length; i++)
+            if (Objects.equals(o, es[i]))
+                return i - gapLength();
+        return -1;
+    }
+
+    public int lastIndexOf(Object o) {
+        final Object[] es = elementData;
+        for (int i = es.length - 1; i >= gapEnd; i--)
+            if (Objects.equals(o, es[i]))
+                return i - gapLength();
+        for (int i = gapStart - 1; i >= 0; i--)
+            if (Objects.equals(o, es[i]))
+                return i;
+        return -1;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Получатель отрезка массива: элементы array[offset], ..., array[offset + length - 1].
+     * Массив принадлежит списку: его нельзя изменять и сохранять после возврата из accept.
+     */
+    @FunctionalInterface
+    public interface SliceConsumer {
+        void accept(Object[] array, int offset, int length);
+    }
+
+    /**
+     * Передает элементы диапазона [fromIndex, toIndex) без копирования не более чем двумя отрезками
+     * массива: до разрыва и после него. Пустые отрезки не передаются.
+     */
+    public void forEachSlice(int fromIndex, int toIndex, SliceConsumer action) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final int start = gapStart;
+        if (fromIndex < start)
+            action.accept(elementData, fromIndex, Math.min(toIndex, start) - fromIndex);
+        if (toIndex > start) {
+            final int from = Math.max(fromIndex, start);
+            action.accept(elementData, from + gapLength(), toIndex - from);
+        }
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Копирует элементы диапазона [fromIndex, toIndex) в dest начиная с destPos (не более двух arraycopy).
+     */
+    public void copyTo(int fromIndex, int toIndex, Object[] dest, int destPos) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        final int start = gapStart;
+        if (fromIndex < start)
+            System.arraycopy(elementData, fromIndex, dest, destPos, Math.min(toIndex, start) - fromIndex);
+        if (toIndex > start) {
+            final int from = Math.max(fromIndex, start);
+            System.arraycopy(elementData, from + gapLength(), dest, destPos + (from - fromIndex), toIndex - from);
+        }
+    }
+
+    public Object[] toArray() {
+        final int size = size();
+        final Object[] a = new Object[size];
+        copyTo(0, size, a, 0);
+        return a;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        final int size = size();
+        if (a.length < size)
+            a = (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+        copyTo(0, size, a, 0);
+        if (a.length > size)
+            a[size] = null;
+        return a;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        for (int i = 0; i < gapStart && modCount == expectedModCount; i++)
+            action.accept((E) es[i]);
+        for (int i = gapEnd; i < es.length && modCount == expectedModCount; i++)
+            action.accept((E) es[i]);
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Возвращает поверхностную копию списка с тем же положением курсора.
+     */
+    public Object clone() {
+        try {
+            @SuppressWarnings("unchecked")
+            MyGapList<E> v = (MyGapList<E>) super.clone();
+            v.elementData = elementData.clone();
+            v.growthPolicy = growthPolicy.copy();
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Версия rangeCheck, используемая add и addAll.
+     */
+    private void rangeCheckForAdd(int index) {
+        if (index > size() || index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Создает подробное сообщение IndexOutOfBoundsException.
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: "+index+", Size: "+size();
+    }
+
+    /**
+     * Сохраняет размер и элементы списка в поток (без разрыва).
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+
+        final int size = size();
+        s.writeInt(size);
+        for (int i = 0; i < size; i++)
+            s.writeObject(elementData(i));
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Восстанавливает список из потока; курсор стоит в конце.
+     */
+    @java.io.Serial
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+
+        final int size = s.readInt();
+        if (size < 0)
+            throw new java.io.InvalidObjectException("Некорректный размер: " + size);
+        final Object[] es = (size == 0) ? EMPTY_ELEMENTDATA : new Object[size];
+        for (int i = 0; i < size; i++)
+            es[i] = s.readObject();
+        elementData = es;
+        gapStart = gapEnd = size;
+    }
+}
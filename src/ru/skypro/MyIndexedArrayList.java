@@ -0,0 +1,393 @@
+package ru.skypro;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * MyArrayList с хеш-индексом «значение → позиции» для contains, indexOf, lastIndexOf и remove(Object) за O(1)
+ * вместо линейного просмотра elementData.
+ *
+ * Индекс строится лениво при первом поиске и дальше поддерживается при изменениях:
+ * добавление в конец, set и удаление последнего элемента обновляют одну-две записи;
+ * вставка и удаление ближе к концу списка переносят позиции сдвинутых элементов одним проходом
+ * по сдвинутому диапазону. Перенос позиции стоит поиска в HashMap, поэтому если сдвигается больше
+ * восьмой части списка, индекс сбрасывается: его перестройка при следующем поиске дешевле.
+ * Массовые операции (removeIf, removeAll, retainAll, replaceAll, sort, addAll(int, ...),
+ * removeRange и т.п.) сбрасывают индекс всегда.
+ *
+ * Элементы не должны менять hashCode и equals, пока находятся в списке, как ключи HashMap.
+ *
+ * В отличие от MyArrayList, поиск (contains, indexOf, lastIndexOf) изменяет состояние списка:
+ * первый вызов строит индекс. Поэтому даже одновременные чтения из нескольких потоков
+ * требуют внешней синхронизации.
+ *
+ * Стоимость индекса сообщают {@link #estimatedIndexBytes()}, {@link #indexUpdateCount()}
+ * и {@link #indexRebuildCount()}, чтобы выбирать этот вариант для конкретного списка.
+ */
+public class MyIndexedArrayList<E> extends MyArrayList<E> {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     Индекс: значение → Integer (единственная позиция) или MyIntArrayList (позиции по возрастанию);
+     null, пока индекс не построен или после сброса
+     */
+    private transient HashMap<Object, Object> index;
+
+    /**
+     Количество изменений записей индекса
+     */
+    private transient long indexUpdateCount;
+
+    /**
+     Количество построений индекса
+     */
+    private transient long indexRebuildCount;
+
+    /**
+     * Создает пустой список с начальной емкостью 10.
+     */
+    public MyIndexedArrayList() {
+        super();
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     */
+    public MyIndexedArrayList(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * Создает список, содержащий элементы указанной коллекции
+     * в том порядке, в котором они были возвращены итератором
+     */
+    public MyIndexedArrayList(Collection<? extends E> c) {
+        super(c);
+    }
+
+    // Ведение индекса
+
+    /**
+     * Строит индекс, если он еще не построен, и возвращает его.
+     */
+    private HashMap<Object, Object> index() {
+        HashMap<Object, Object> m = index;
+        if (m == null) {
+            final int size = size();
+            m = index = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+            for (int i = 0; i < size; i++)
+                addPosition(elementData(i), i);
+            indexRebuildCount++;
+        }
+        return m;
+    }
+
+    /**
+     * Сбрасывает индекс; он будет построен заново при следующем поиске.
+     */
+    private void invalidateIndex() {
+        index = null;
+    }
+
+    /**
+     * Освобождает память индекса. Следующий поиск построит его заново.
+     */
+    public void dropIndex() {
+        invalidateIndex();
+    }
+
+    /**
+     * Возвращает true, если перенос позиций shifted сдвинутых элементов дороже перестройки индекса.
+     */
+    private boolean shiftTooLarge(int shifted) {
+        return shifted > (size() >>> 3);
+    }
+
+    /**
+     * Возвращает индекс элемента pos в отсортированном списке позиций.
+     */
+    private static int positionOf(MyIntArrayList positions, int pos) {
+        int lo = 0, hi = positions.size() - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            final int p = positions.getInt(mid);
+            if (p < pos)
+                lo = mid + 1;
+            else if (p > pos)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+        return -(lo + 1);
+    }
+
+    private void addPosition(Object key, int pos) {
+        indexUpdateCount++;
+        final Object v = index.get(key);
+        if (v == null) {
+            index.put(key, pos);
+        } else if (v instanceof Integer) {
+            final int p = (Integer) v;
+            final MyIntArrayList positions = new MyIntArrayList(2);
+            positions.addInt(Math.min(p, pos));
+            positions.addInt(Math.max(p, pos));
+            index.put(key, positions);
+        } else {
+            final MyIntArrayList positions = (MyIntArrayList) v;
+            positions.addInt(-(positionOf(positions, pos) + 1), pos);
+        }
+    }
+
+    private void removePosition(Object key, int pos) {
+        indexUpdateCount++;
+        final Object v = index.get(key);
+        if (v instanceof Integer) {
+            index.remove(key);
+        } else {
+            final MyIntArrayList positions = (MyIntArrayList) v;
+            positions.removeInt(positionOf(positions, pos));
+            if (positions.size() == 1)
+                index.put(key, positions.getInt(0));
+        }
+    }
+
+    /**
+     * Заменяет позицию from элемента key на to. Порядок позиций сохраняется, если сдвигаемые
+     * элементы обрабатываются навстречу сдвигу.
+     */
+    private void movePosition(Object key, int from, int to) {
+        indexUpdateCount++;
+        final Object v = index.get(key);
+        if (v instanceof Integer) {
+            index.put(key, to);
+        } else {
+            final MyIntArrayList positions = (MyIntArrayList) v;
+            positions.setInt(positionOf(positions, from), to);
+        }
+    }
+
+    // Поиск
+
+    public boolean contains(Object o) {
+        return index().containsKey(o);
+    }
+
+    public int indexOf(Object o) {
+        final Object v = index().get(o);
+        if (v == null)
+            return -1;
+        return (v instanceof Integer) ? (Integer) v : ((MyIntArrayList) v).getInt(0);
+    }
+
+    public int lastIndexOf(Object o) {
+        final Object v = index().get(o);
+        if (v == null)
+            return -1;
+        if (v instanceof Integer)
+            return (Integer) v;
+        final MyIntArrayList positions = (MyIntArrayList) v;
+        return positions.getInt(positions.size() - 1);
+    }
+
+    /**
+     * Индекс отвечает быстрее параллельного просмотра, поэтому используется и здесь.
+     */
+    public int parallelIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    public int parallelLastIndexOf(Object o) {
+        return lastIndexOf(o);
+    }
+
+    public boolean parallelContains(Object o) {
+        return contains(o);
+    }
+
+    /**
+     * Удаляет первое вхождение элемента, находя его через индекс. Если индекс не построен,
+     * выполняет обычный линейный поиск: строить индекс ради одного удаления со сдвигом невыгодно.
+     */
+    public boolean remove(Object o) {
+        if (index == null)
+            return super.remove(o);
+        final int i = indexOf(o);
+        if (i < 0)
+            return false;
+        remove(i);
+        return true;
+    }
+
+    // Изменения, поддерживающие индекс
+
+    public boolean add(E e) {
+        super.add(e);
+        if (index != null)
+            addPosition(e, size() - 1);
+        return true;
+    }
+
+    /**
+     * Вставляет элемент и сдвигает позиции элементов правее index на единицу,
+     * или сбрасывает индекс, если таких элементов больше восьмой части списка.
+     */
+    public void add(int index, E element) {
+        super.add(index, element);
+        if (this.index != null && shiftTooLarge(size() - 1 - index))
+            invalidateIndex();
+        if (this.index != null) {
+            for (int j = size() - 1; j > index; j--)
+                movePosition(elementData(j), j - 1, j);
+            addPosition(element, index);
+        }
+    }
+
+    public E set(int index, E element) {
+        final E oldValue = super.set(index, element);
+        if (this.index != null) {
+            removePosition(oldValue, index);
+            addPosition(element, index);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент и сдвигает позиции элементов правее index на единицу влево,
+     * или сбрасывает индекс, если таких элементов больше восьмой части списка.
+     */
+    public E remove(int index) {
+        final E oldValue = super.remove(index);
+        if (this.index != null && shiftTooLarge(size() - index))
+            invalidateIndex();
+        if (this.index != null) {
+            removePosition(oldValue, index);
+            for (int j = index, size = size(); j < size; j++)
+                movePosition(elementData(j), j + 1, j);
+        }
+        return oldValue;
+    }
+
+    public void clear() {
+        super.clear();
+        invalidateIndex();
+    }
+
+    /**
+     * Добавляет элементы в конец; индекс дополняется позициями новых элементов.
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        final int from = size();
+        final boolean modified = super.addAll(c);
+        if (index != null) {
+            for (int i = from, size = size(); i < size; i++)
+                addPosition(elementData(i), i);
+        }
+        return modified;
+    }
+
+    public boolean addAll(int index, Collection<? extends E> c) {
+        invalidateIndex();
+        return super.addAll(index, c);
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) {
+        invalidateIndex();
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    // Диапазонные операции, через которые работают и removeAll/retainAll/removeIf/replaceAll/sort, и subList
+
+    boolean batchRemove(Collection<?> c, boolean complement, int from, int end) {
+        invalidateIndex();
+        return super.batchRemove(c, complement, from, end);
+    }
+
+    boolean removeIf(Predicate<? super E> filter, int i, int end) {
+        invalidateIndex();
+        return super.removeIf(filter, i, end);
+    }
+
+    void replaceAllRange(UnaryOperator<E> operator, int i, int end) {
+        invalidateIndex();
+        super.replaceAllRange(operator, i, end);
+    }
+
+    void sortRange(Comparator<? super E> c, int from, int to) {
+        invalidateIndex();
+        super.sortRange(c, from, to);
+    }
+
+    public int removeIndexes(int... indexes) {
+        invalidateIndex();
+        return super.removeIndexes(indexes);
+    }
+
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        invalidateIndex();
+        super.parallelReplaceAll(operator);
+    }
+
+    public void parallelSort(Comparator<? super E> c) {
+        invalidateIndex();
+        super.parallelSort(c);
+    }
+
+    // Стоимость индекса
+
+    /**
+     * Возвращает true, если индекс построен.
+     */
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    /**
+     * Возвращает количество изменений записей индекса с момента создания списка.
+     */
+    public long indexUpdateCount() {
+        return indexUpdateCount;
+    }
+
+    /**
+     * Возвращает количество построений индекса с момента создания списка.
+     */
+    public long indexRebuildCount() {
+        return indexRebuildCount;
+    }
+
+    /**
+     * Возвращает оценку памяти индекса в байтах (для 64-битной JVM со сжатыми указателями):
+     * таблица HashMap, ее узлы, Integer вне кеша и списки позиций повторяющихся значений.
+     * Вычисляется обходом индекса за O(количества различных значений).
+     */
+    public long estimatedIndexBytes() {
+        final HashMap<Object, Object> m = index;
+        if (m == null)
+            return 0;
+        long bytes = 48 + 16 + 4L * Math.max(16, Integer.highestOneBit((int) (m.size() / 0.75f)) << 1);
+        for (Object v : m.values()) {
+            bytes += 32; // HashMap.Node
+            if (v instanceof Integer) {
+                final int p = (Integer) v;
+                if (p > 127)
+                    bytes += 16;
+            } else {
+                bytes += 24 + 16 + 4L * ((MyIntArrayList) v).size();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Возвращает копию списка; индекс копии строится заново при первом поиске.
+     */
+    public Object clone() {
+        MyIndexedArrayList<?> v = (MyIndexedArrayList<?>) super.clone();
+        v.index = null;
+        v.indexUpdateCount = 0;
+        v.indexRebuildCount = 0;
+        return v;
+    }
+}
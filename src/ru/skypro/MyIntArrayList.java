@@ -0,0 +1,644 @@
+package ru.skypro;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import jdk.internal.access.SharedSecrets;
+import jdk.internal.util.ArraysSupport;
+
+
+/**
+ * Список примитивов int на основе массива, аналог MyArrayList&lt;Integer&gt; без упаковки элементов.
+ * Сохраняет политику роста MyArrayList (grow/ensureCapacity/trimToSize)
+ * и отказоустойчивые (fail-fast) итераторы.
+ * Для совместимости с кодом, ожидающим List&lt;Integer&gt;, используйте {@link #asList()}.
+ */
+public class MyIntArrayList implements RandomAccess, Cloneable, java.io.Serializable
+{
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+    /**
+     Дефолтный размер списка при объявлении
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+    Общий пустой экземпляр массива, используемый для пустых экземпляров.
+     */
+    private static final int[] EMPTY_ELEMENTDATA = {};
+
+    /**
+     Общий пустой экземпляр массива, используемый для пустых экземпляров размера по умолчанию.
+     Отличается от EMPTY_ELEMENTDATA, чтобы знать, насколько он будет увеличиваться при добавлении первого элемента.
+     */
+    private static final int[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {};
+    /**
+     Буфер массива, в котором хранятся элементы списка. Емкость списка равна длине этого буфера массива.
+     */
+    transient int[] elementData; //Неприватный для упрощения доступа к вложенным классам
+    /**
+    Размер списка (кол-во элементов в списке)
+    */
+    private int size;
+    /**
+    Количество структурных изменений списка, используется итераторами для fail-fast проверки
+    */
+    protected transient int modCount = 0;
+
+    /**
+    Представление asList(); создается при первом вызове и получает modCount этого списка
+    при каждом структурном изменении
+    */
+    private transient BoxedView boxed;
+
+    /**
+     * Создает пустой список с указанной начальной емкостью
+     *
+     * @param  initialCapacity  начальная емкость списка
+     * @throws IllegalArgumentException бросает ошибку, если передаваемая емкость < 0 (отрицательная)
+     */
+    public MyIntArrayList(int initialCapacity) {
+        if (initialCapacity > 0) {
+            this.elementData = new int[initialCapacity];
+        } else if (initialCapacity == 0) {
+            this.elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new IllegalArgumentException("Некорректное значение: "+
+                    initialCapacity);
+        }
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10.
+     */
+    public MyIntArrayList() {
+        this.elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+    }
+
+    /**
+     * Создает список, содержащий копию указанного массива.
+     */
+    public MyIntArrayList(int[] a) {
+        if ((size = a.length) != 0) {
+            elementData = Arrays.copyOf(a, size);
+        } else {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+    }
+
+    /**
+     * Обрезает емкость списка до текущего размера (size).
+     */
+    public void trimToSize() {
+        incrementModCount();
+        if (size < elementData.length) {
+            elementData = (size == 0)
+                    ? EMPTY_ELEMENTDATA
+                    : Arrays.copyOf(elementData, size);
+        }
+    }
+
+    /**
+     * Увеличивает емкость списка при необходимости,
+     * чтобы гарантированно иметь minCapacity элементов
+     *
+     * @param minCapacity желаемая минимальная емкость
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length
+                && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENTDATA
+                && minCapacity <= DEFAULT_CAPACITY)) {
+            incrementModCount();
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Увеличивает емкость списка так же, как MyArrayList.grow: в полтора раза,
+     * но не меньше minCapacity.
+     *
+     * @param minCapacity желаемая минимальная емкость
+     * @throws OutOfMemoryError если minCapacity < 0 (отрицательное)
+     */
+    private int[] grow(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+
+            int newCapacity = ArraysSupport.newLength(oldCapacity,
+                    minCapacity - oldCapacity, /* минимальный рост */
+                    oldCapacity >> 1           /* предпочтительный рост */);
+            return elementData = Arrays.copyOf(elementData, newCapacity);
+        } else {
+            return elementData = new int[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+    }
+
+    private int[] grow() { return grow(size + 1); }
+
+    // Возвращает размер списка
+    public int size() { return size; }
+
+    // Проверить список на наличие в нем элементов. Возвращает true или false
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Проверяет, содержится ли элемент e в списке. Возвращает true или false
+    public boolean contains(int e) {
+        return indexOf(e) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в списке
+     * или -1, если список не содержит данный элемент
+     */
+    public int indexOf(int e) {
+        final int[] es = elementData;
+        for (int i = 0, s = size; i < s; i++) {
+            if (es[i] == e) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента в списке
+     * или -1, если список не содержит данный элемент
+     */
+    public int lastIndexOf(int e) {
+        final int[] es = elementData;
+        for (int i = size - 1; i >= 0; i--) {
+            if (es[i] == e) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Возвращает созданную копию этого списка
+    public Object clone() {
+        try {
+            MyIntArrayList v = (MyIntArrayList) super.clone();
+            v.elementData = Arrays.copyOf(elementData, size);
+            v.modCount = 0;
+            v.boxed = null;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            // этого не должно происходить, так как мы Cloneable
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка в правильной последовательности.
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    // Операции позиционного доступа
+
+    // Возвращает элемент по указанному индексу в списке
+    public int getInt(int index) {
+        Objects.checkIndex(index, size);
+        return elementData[index];
+    }
+
+    // Заменяет элемент списка по указанному индексу на указанный элемент
+    public int setInt(int index, int element) {
+        Objects.checkIndex(index, size);
+        int oldValue = elementData[index];
+        elementData[index] = element;
+        return oldValue;
+    }
+
+    // Этот вспомогательный метод отделен от addInt(int), чтобы размер байт-кода метода не превышал 35.
+    private void add(int e, int[] elementData, int s) {
+        if (s == elementData.length)
+            elementData = grow();
+        elementData[s] = e;
+        size = s + 1;
+    }
+
+    // Добавляет указанный элемент в конец списка
+    public void addInt(int e) {
+        incrementModCount();
+        add(e, elementData, size);
+    }
+
+    /**
+     * Вставляет указанный элемент element в указанную позицию index в этом списке.
+     * Сдвигает последующие элементы вправо.
+     */
+    public void addInt(int index, int element) {
+        rangeCheckForAdd(index);
+        incrementModCount();
+        final int s;
+        int[] elementData;
+        if ((s = size) == (elementData = this.elementData).length)
+            elementData = grow();
+        System.arraycopy(elementData, index,
+                elementData, index + 1,
+                s - index);
+        elementData[index] = element;
+        size = s + 1;
+    }
+
+    /**
+     * Добавляет все элементы указанного массива в конец списка.
+     */
+    public void addAll(int[] a) {
+        incrementModCount();
+        int numNew = a.length;
+        if (numNew == 0)
+            return;
+        int[] elementData;
+        final int s;
+        if (numNew > (elementData = this.elementData).length - (s = size))
+            elementData = grow(s + numNew);
+        System.arraycopy(a, 0, elementData, s, numNew);
+        size = s + numNew;
+    }
+
+    /**
+     * Удаляет элемент в указанной позиции index в списке и возвращает его.
+     * Сдвигает все последующие элементы влево.
+     */
+    public int removeInt(int index) {
+        Objects.checkIndex(index, size);
+        final int[] es = elementData;
+        int oldValue = es[index];
+        incrementModCount();
+        final int newSize;
+        if ((newSize = size - 1) > index)
+            System.arraycopy(es, index + 1, es, index, newSize - index);
+        size = newSize;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет все элементы в списке.
+     */
+    public void clear() {
+        incrementModCount();
+        size = 0;
+    }
+
+    /**
+     * Версия rangeCheck, используемая addInt.
+     */
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Создает подробное сообщение IndexOutOfBoundsException.
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: "+index+", Size: "+size;
+    }
+
+    /**
+     * Учитывает структурное изменение в этом списке и в его представлении asList().
+     */
+    private void incrementModCount() {
+        modCount++;
+        final BoxedView v = boxed;
+        if (v != null)
+            v.syncModCount();
+    }
+
+    private void checkForComodification(final int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Выполняет action для каждого элемента списка без упаковки.
+     */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final int[] es = elementData;
+        final int size = this.size;
+        for (int i = 0; i < size; i++)
+            action.accept(es[i]);
+        checkForComodification(expectedModCount);
+    }
+
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof MyIntArrayList)) {
+            return false;
+        }
+        MyIntArrayList other = (MyIntArrayList) o;
+        return Arrays.equals(elementData, 0, size, other.elementData, 0, other.size);
+    }
+
+    public int hashCode() {
+        final int[] es = elementData;
+        int hashCode = 1;
+        for (int i = 0, s = size; i < s; i++)
+            hashCode = 31 * hashCode + Integer.hashCode(es[i]);
+        return hashCode;
+    }
+
+    public String toString() {
+        final int[] es = elementData;
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0, s = size; i < s; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(es[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Сохраняет состояние списка в поток.
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+
+        for (int i=0; i<size; i++) {
+            s.writeInt(elementData[i]);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Восстанавливает список из потока.
+     */
+    @java.io.Serial
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+
+        s.defaultReadObject();
+
+        if (size > 0) {
+
+            SharedSecrets.getJavaObjectInputStreamAccess().checkArray(s, int[].class, size);
+            int[] elements = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                elements[i] = s.readInt();
+            }
+
+            elementData = elements;
+        } else if (size == 0) {
+            elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new java.io.InvalidObjectException("Некорректный размер: " + size);
+        }
+    }
+
+    /**
+     * Возвращает fail-fast итератор по элементам списка без упаковки.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Возвращает позднесвязывающий fail-fast Spliterator по элементам списка,
+     * делящий диапазон индексов пополам.
+     */
+    public Spliterator.OfInt spliterator() {
+        return new IntArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Возвращает последовательный IntStream по элементам списка.
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный IntStream по элементам списка.
+     */
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    /**
+     * Возвращает представление списка в виде List&lt;Integer&gt;. Изменения в представлении
+     * отражаются в этом списке и наоборот. Каждое обращение через представление упаковывает элемент.
+     * Итераторы и subList представления обнаруживают и изменения, сделанные напрямую в этом списке.
+     */
+    public List<Integer> asList() {
+        BoxedView v = boxed;
+        if (v == null)
+            boxed = v = new BoxedView();
+        return v;
+    }
+
+    // Итератор по int без упаковки
+    private class Itr implements PrimitiveIterator.OfInt {
+        int cursor;
+        int lastRet = -1;
+        int expectedModCount = modCount;
+
+        Itr() {}
+
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        public int nextInt() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            int[] elementData = MyIntArrayList.this.elementData;
+            if (i >= elementData.length)
+                throw new ConcurrentModificationException();
+            cursor = i + 1;
+            return elementData[lastRet = i];
+        }
+
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            try {
+                MyIntArrayList.this.removeInt(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            } catch (IndexOutOfBoundsException ex) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            final int size = MyIntArrayList.this.size;
+            int i = cursor;
+            if (i < size) {
+                final int[] es = elementData;
+                if (i >= es.length)
+                    throw new ConcurrentModificationException();
+                for (; i < size && modCount == expectedModCount; i++)
+                    action.accept(es[i]);
+                cursor = i;
+                lastRet = i - 1;
+                checkForComodification();
+            }
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /** Индексный Spliterator по elementData, делящийся пополам */
+    final class IntArrayListSpliterator implements Spliterator.OfInt {
+        private int index; // текущий индекс, изменяется при advance/split
+        private int fence; // -1 до первого использования; затем индекс за последним элементом
+        private int expectedModCount; // инициализируется вместе с fence
+
+        IntArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() { // инициализирует fence размером списка при первом использовании
+            int hi;
+            if ((hi = fence) < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        public IntArrayListSpliterator trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null :
+                    new IntArrayListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        public boolean tryAdvance(IntConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            int hi = getFence(), i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept(elementData[i]);
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        public void forEachRemaining(IntConsumer action) {
+            int i, hi, mc; // поля читаются один раз вне цикла
+            int[] a;
+            if (action == null)
+                throw new NullPointerException();
+            if ((a = elementData) != null) {
+                if ((hi = fence) < 0) {
+                    mc = modCount;
+                    hi = size;
+                } else
+                    mc = expectedModCount;
+                if ((i = index) >= 0 && (index = hi) <= a.length) {
+                    for (; i < hi; ++i)
+                        action.accept(a[i]);
+                    if (modCount == mc)
+                        return;
+                }
+            }
+            throw new ConcurrentModificationException();
+        }
+
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Представление списка в виде List&lt;Integer&gt;. Элементы null не допускаются.
+     * Унаследованный modCount, по которому AbstractList проверяет итераторы и subList,
+     * повторяет modCount внешнего списка: его обновляет incrementModCount.
+     */
+    private class BoxedView extends AbstractList<Integer> implements RandomAccess {
+        BoxedView() {
+            syncModCount();
+        }
+
+        void syncModCount() {
+            modCount = MyIntArrayList.this.modCount;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Integer get(int index) {
+            return getInt(index);
+        }
+
+        public Integer set(int index, Integer element) {
+            return setInt(index, element);
+        }
+
+        public void add(int index, Integer element) {
+            addInt(index, element);
+        }
+
+        public Integer remove(int index) {
+            Integer oldValue = removeInt(index);
+            return oldValue;
+        }
+
+        public int indexOf(Object o) {
+            return (o instanceof Integer) ? MyIntArrayList.this.indexOf((Integer) o) : -1;
+        }
+
+        public int lastIndexOf(Object o) {
+            return (o instanceof Integer) ? MyIntArrayList.this.lastIndexOf((Integer) o) : -1;
+        }
+
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        public void clear() {
+            MyIntArrayList.this.clear();
+        }
+
+        public Iterator<Integer> iterator() {
+            return MyIntArrayList.this.iterator();
+        }
+
+        public Spliterator<Integer> spliterator() {
+            return MyIntArrayList.this.spliterator();
+        }
+
+        public void forEach(Consumer<? super Integer> action) {
+            Objects.requireNonNull(action);
+            MyIntArrayList.this.forEach((IntConsumer) action::accept);
+        }
+    }
+}
@@ -0,0 +1,721 @@
+package ru.skypro;
+
+import java.util.*;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ограниченная блокирующая двунаправленная очередь на связанных узлах MyLinkedList.
+ * Элементы хранятся во внутреннем MyLinkedList, все операции над ним выполняются
+ * под одной блокировкой ReentrantLock (без synchronized), а ожидание реализовано
+ * условиями notEmpty/notFull. Потоки, ожидающие на условиях, не удерживают монитор.
+ *
+ * Емкость задается при создании (по умолчанию Integer.MAX_VALUE).
+ * Пакетные {@link #drainTo(Collection, int)} переносят много элементов за один захват блокировки
+ * и будят всех ожидающих производителей одним сигналом.
+ *
+ * Итераторы работают по снимку, сделанному при их создании, и не бросают
+ * ConcurrentModificationException. Элементы null не допускаются.
+ */
+public class MyLinkedBlockingDeque<E> extends AbstractQueue<E>
+        implements BlockingDeque<E>, java.io.Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Элементы очереди. Доступ только под lock.
+     */
+    private transient MyLinkedList<E> list = new MyLinkedList<>();
+
+    /**
+     * Максимальное количество элементов в очереди.
+     */
+    private final int capacity;
+
+    /**
+     * Блокировка, защищающая все операции.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Условие ожидания извлекающих потоков.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * Условие ожидания добавляющих потоков.
+     */
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Создание пустой очереди емкостью Integer.MAX_VALUE.
+     */
+    public MyLinkedBlockingDeque() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Создание пустой очереди указанной емкости.
+     *
+     * @throws IllegalArgumentException если capacity < 1
+     */
+    public MyLinkedBlockingDeque(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Некорректная емкость: " + capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Создает очередь емкостью Integer.MAX_VALUE, содержащую элементы указанной коллекции
+     * в том порядке, в котором они были возвращены итератором.
+     */
+    public MyLinkedBlockingDeque(Collection<? extends E> c) {
+        this(Integer.MAX_VALUE);
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            for (E e : c)
+                if (!linkLast(Objects.requireNonNull(e)))
+                    throw new IllegalStateException("Очередь заполнена");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Базовые операции, вызываются только под lock
+
+    /**
+     * Добавляет e в начало, если есть место, и будит одного извлекающего.
+     */
+    private boolean linkFirst(E e) {
+        if (list.size >= capacity)
+            return false;
+        list.addFirst(e);
+        notEmpty.signal();
+        return true;
+    }
+
+    /**
+     * Добавляет e в конец, если есть место, и будит одного извлекающего.
+     */
+    private boolean linkLast(E e) {
+        if (list.size >= capacity)
+            return false;
+        list.addLast(e);
+        notEmpty.signal();
+        return true;
+    }
+
+    /**
+     * Извлекает первый элемент или возвращает null и будит одного добавляющего.
+     */
+    private E unlinkFirst() {
+        final E e = list.pollFirst();
+        if (e != null)
+            notFull.signal();
+        return e;
+    }
+
+    /**
+     * Извлекает последний элемент или возвращает null и будит одного добавляющего.
+     */
+    private E unlinkLast() {
+        final E e = list.pollLast();
+        if (e != null)
+            notFull.signal();
+        return e;
+    }
+
+    // Операции двунаправленной очереди
+
+    /**
+     * @throws IllegalStateException если очередь заполнена
+     */
+    public void addFirst(E e) {
+        if (!offerFirst(e))
+            throw new IllegalStateException("Очередь заполнена");
+    }
+
+    /**
+     * @throws IllegalStateException если очередь заполнена
+     */
+    public void addLast(E e) {
+        if (!offerLast(e))
+            throw new IllegalStateException("Очередь заполнена");
+    }
+
+    /**
+     * Вставляет элемент в начало очереди, если есть место. Возвращает false, если очередь заполнена.
+     */
+    public boolean offerFirst(E e) {
+        Objects.requireNonNull(e);
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return linkFirst(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Вставляет элемент в конец очереди, если есть место. Возвращает false, если очередь заполнена.
+     */
+    public boolean offerLast(E e) {
+        Objects.requireNonNull(e);
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return linkLast(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Вставляет элемент в начало очереди, ожидая свободного места.
+     */
+    public void putFirst(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (!linkFirst(e))
+                notFull.await();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Вставляет элемент в конец очереди, ожидая свободного места.
+     */
+    public void putLast(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (!linkLast(e))
+                notFull.await();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Вставляет элемент в начало очереди, ожидая свободного места не дольше указанного времени.
+     * Возвращает false, если время истекло.
+     */
+    public boolean offerFirst(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (!linkFirst(e)) {
+                if (nanos <= 0L)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Вставляет элемент в конец очереди, ожидая свободного места не дольше указанного времени.
+     * Возвращает false, если время истекло.
+     */
+    public boolean offerLast(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (!linkLast(e)) {
+                if (nanos <= 0L)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public E removeFirst() {
+        E x = pollFirst();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    /**
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public E removeLast() {
+        E x = pollLast();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    /**
+     * Извлекает и удаляет первый элемент очереди или возвращает null, если очередь пуста.
+     */
+    public E pollFirst() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return unlinkFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает и удаляет последний элемент очереди или возвращает null, если очередь пуста.
+     */
+    public E pollLast() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return unlinkLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает и удаляет первый элемент очереди, ожидая его появления.
+     */
+    public E takeFirst() throws InterruptedException {
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            E x;
+            while ((x = unlinkFirst()) == null)
+                notEmpty.await();
+            return x;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает и удаляет последний элемент очереди, ожидая его появления.
+     */
+    public E takeLast() throws InterruptedException {
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            E x;
+            while ((x = unlinkLast()) == null)
+                notEmpty.await();
+            return x;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает и удаляет первый элемент очереди, ожидая его не дольше указанного времени.
+     * Возвращает null, если время истекло.
+     */
+    public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            E x;
+            while ((x = unlinkFirst()) == null) {
+                if (nanos <= 0L)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return x;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает и удаляет последний элемент очереди, ожидая его не дольше указанного времени.
+     * Возвращает null, если время истекло.
+     */
+    public E pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            E x;
+            while ((x = unlinkLast()) == null) {
+                if (nanos <= 0L)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return x;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public E getFirst() {
+        E x = peekFirst();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    /**
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public E getLast() {
+        E x = peekLast();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    /**
+     * Извлекает, но не удаляет первый элемент очереди или возвращает null, если очередь пуста.
+     */
+    public E peekFirst() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return list.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает, но не удаляет последний элемент очереди или возвращает null, если очередь пуста.
+     */
+    public E peekLast() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return list.peekLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента (при обходе от начала до конца).
+     */
+    public boolean removeFirstOccurrence(Object o) {
+        if (o == null) return false;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (list.removeFirstOccurrence(o)) {
+                notFull.signal();
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет последнее вхождение указанного элемента (при обходе от начала до конца).
+     */
+    public boolean removeLastOccurrence(Object o) {
+        if (o == null) return false;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (list.removeLastOccurrence(o)) {
+                notFull.signal();
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Операции блокирующей очереди (эквивалентны операциям над концом и началом)
+
+    /**
+     * Добавляет элемент в конец очереди.
+     *
+     * @throws IllegalStateException если очередь заполнена
+     */
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    public void put(E e) throws InterruptedException {
+        putLast(e);
+    }
+
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        return offerLast(e, timeout, unit);
+    }
+
+    public E remove() {
+        return removeFirst();
+    }
+
+    public E poll() {
+        return pollFirst();
+    }
+
+    public E take() throws InterruptedException {
+        return takeFirst();
+    }
+
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return pollFirst(timeout, unit);
+    }
+
+    public E element() {
+        return getFirst();
+    }
+
+    public E peek() {
+        return peekFirst();
+    }
+
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    public E pop() {
+        return removeFirst();
+    }
+
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Возвращает количество элементов, которое можно добавить без ожидания.
+     */
+    public int remainingCapacity() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return capacity - list.size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает все элементы и добавляет их в коллекцию c.
+     *
+     * @return количество перенесенных элементов
+     */
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Извлекает не более maxElements элементов и добавляет их в коллекцию c
+     * за один захват блокировки. Будит по одному производителю на каждый освобожденный слот,
+     * в том числе если c.add бросил исключение после переноса части элементов.
+     *
+     * @return количество перенесенных элементов
+     * @throws IllegalArgumentException если c — эта очередь
+     */
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this)
+            throw new IllegalArgumentException();
+        if (maxElements <= 0)
+            return 0;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        int i = 0;
+        try {
+            final int n = Math.min(maxElements, list.size);
+            for (; i < n; i++) {
+                // Сначала добавляем в c: если add бросит исключение, элемент останется в очереди
+                c.add(list.peekFirst());
+                list.pollFirst();
+            }
+            return n;
+        } finally {
+            for (int k = 0; k < i; k++)
+                notFull.signal();
+            lock.unlock();
+        }
+    }
+
+    // Операции коллекции
+
+    public int size() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return list.size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean contains(Object o) {
+        if (o == null) return false;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return list.contains(o);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет все элементы и будит ожидающих производителей.
+     */
+    public void clear() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            list.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Object[] toArray() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return list.toArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T[] toArray(T[] a) {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return list.toArray(a);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Возвращает итератор по снимку элементов от начала к концу.
+     * Метод remove итератора удаляет из очереди тот же объект (по ссылке), если он еще в ней.
+     */
+    public Iterator<E> iterator() {
+        return new Itr(false);
+    }
+
+    /**
+     * Возвращает итератор по снимку элементов от конца к началу.
+     */
+    public Iterator<E> descendingIterator() {
+        return new Itr(true);
+    }
+
+    private class Itr implements Iterator<E> {
+        private final Object[] snapshot = toArray();
+        private final boolean descending;
+        private int cursor;
+        private int lastRet = -1;
+
+        Itr(boolean descending) {
+            this.descending = descending;
+        }
+
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E next() {
+            final int i = cursor;
+            if (i >= snapshot.length)
+                throw new NoSuchElementException();
+            cursor = i + 1;
+            return (E) snapshot[lastRet = descending ? snapshot.length - 1 - i : i];
+        }
+
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            final Object x = snapshot[lastRet];
+            lastRet = -1;
+            final ReentrantLock lock = MyLinkedBlockingDeque.this.lock;
+            lock.lock();
+            try {
+                for (Iterator<E> it = list.iterator(); it.hasNext(); ) {
+                    if (it.next() == x) {
+                        it.remove();
+                        notFull.signal();
+                        return;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Сохраняет емкость и элементы очереди в поток.
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            s.defaultWriteObject();
+            s.writeInt(list.size);
+            for (E e : list)
+                s.writeObject(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Восстанавливает очередь из потока.
+     */
+    @java.io.Serial
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+
+        list = new MyLinkedList<>();
+        int size = s.readInt();
+        if (size < 0 || size > capacity)
+            throw new java.io.InvalidObjectException("Некорректный размер: " + size);
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            E e = (E) s.readObject();
+            list.linkLast(Objects.requireNonNull(e));
+        }
+    }
+}
@@ -7,6 +7,9 @@ public class MyLinkedList<E>
         extends AbstractSequentialList<E>
         implements List<E>, Deque<E>, Cloneable, java.io.Serializable
 {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
     transient int size = 0;
 
     /**
@@ -19,6 +22,23 @@ public class MyLinkedList<E>
      */
     transient Node<E> last;
 
+    /**
+     * Количество запоминаемых "пальцев" (пар индекс-узел) для ускорения node(int).
+     */
+    private static final int FINGERS = 4;
+
+    /**
+     * Запомненные пальцы; null означает пустой слот. Массив создается при первом вызове node(int).
+     * Каждый палец — неизменяемая пара, которая заменяется в слоте целиком, поэтому параллельные
+     * читатели неизменяемого списка видят в слоте в худшем случае устаревший, но согласованный палец.
+     */
+    private transient Finger<E>[] fingers;
+
+    /**
+     * Слот, который будет занят следующим новым пальцем.
+     */
+    private transient int nextFinger;
+
     /**
      * Создание пустого списка.
      */
@@ -45,6 +65,7 @@ public class MyLinkedList<E>
             last = newNode;
         else
             f.prev = newNode;
+        fingersInserted(0, 1);
         size++;
         modCount++;
     }
@@ -65,9 +86,17 @@ public class MyLinkedList<E>
     }
 
     /**
-     * Вставляет элемент e перед ненулевым узлом succ.
+     * Вставляет элемент e перед ненулевым узлом succ, индекс которого неизвестен.
      */
     void linkBefore(E e, Node<E> succ) {
+        linkBefore(e, succ, -1);
+    }
+
+    /**
+     * Вставляет элемент e перед ненулевым узлом succ, находящимся по индексу index
+     * (-1, если индекс неизвестен: тогда все пальцы сбрасываются).
+     */
+    void linkBefore(E e, Node<E> succ, int index) {
         // утверждение, что succ != null;
         final Node<E> pred = succ.prev;
         final Node<E> newNode = new Node<>(pred, e, succ);
@@ -76,6 +105,10 @@ public class MyLinkedList<E>
             first = newNode;
         else
             pred.next = newNode;
+        if (index < 0)
+            invalidateFingers();
+        else
+            fingersInserted(index, 1);
         size++;
         modCount++;
     }
@@ -94,6 +127,7 @@ public class MyLinkedList<E>
             last = null;
         else
             next.prev = null;
+        fingersRemoved(0);
         size--;
         modCount++;
         return element;
@@ -113,15 +147,24 @@ public class MyLinkedList<E>
             first = null;
         else
             prev.next = null;
+        fingersRemoved(size - 1);
         size--;
         modCount++;
         return element;
     }
 
     /**
-     * Отменяет ссылку ненулевого узла x.
+     * Отменяет ссылку ненулевого узла x, индекс которого неизвестен.
      */
     E unlink(Node<E> x) {
+        return unlink(x, -1);
+    }
+
+    /**
+     * Отменяет ссылку ненулевого узла x, находящегося по индексу index
+     * (-1, если индекс неизвестен: тогда все пальцы сбрасываются).
+     */
+    E unlink(Node<E> x, int index) {
         // assert x != null;
         final E element = x.item;
         final Node<E> next = x.next;
@@ -142,11 +185,71 @@ public class MyLinkedList<E>
         }
 
         x.item = null;
+        if (index < 0)
+            invalidateFingers();
+        else
+            fingersRemoved(index);
         size--;
         modCount++;
         return element;
     }
 
+    /**
+     * Сдвигает пальцы с индексом не меньше index на count позиций вправо после вставки count элементов.
+     */
+    private void fingersInserted(int index, int count) {
+        final Finger<E>[] fs = fingers;
+        if (fs != null) {
+            for (int k = 0; k < FINGERS; k++) {
+                final Finger<E> f = fs[k];
+                if (f != null && f.index >= index)
+                    fs[k] = new Finger<>(f.index + count, f.node);
+            }
+        }
+    }
+
+    /**
+     * Сбрасывает палец, указывающий на удаленный элемент с индексом index,
+     * и сдвигает пальцы правее него на одну позицию влево.
+     */
+    private void fingersRemoved(int index) {
+        final Finger<E>[] fs = fingers;
+        if (fs != null) {
+            for (int k = 0; k < FINGERS; k++) {
+                final Finger<E> f = fs[k];
+                if (f == null)
+                    continue;
+                if (f.index == index)
+                    fs[k] = null;
+                else if (f.index > index)
+                    fs[k] = new Finger<>(f.index - 1, f.node);
+            }
+        }
+    }
+
+    /**
+     * Сбрасывает пальцы с индексом не меньше index после отрезания хвоста списка.
+     */
+    private void fingersTruncated(int index) {
+        final Finger<E>[] fs = fingers;
+        if (fs != null) {
+            for (int k = 0; k < FINGERS; k++) {
+                final Finger<E> f = fs[k];
+                if (f != null && f.index >= index)
+                    fs[k] = null;
+            }
+        }
+    }
+
+    /**
+     * Сбрасывает все пальцы.
+     */
+    private void invalidateFingers() {
+        final Finger<E>[] fs = fingers;
+        if (fs != null)
+            Arrays.fill(fs, null);
+    }
+
     /**
      * Возвращает первый элемент в списке.
      */
@@ -228,22 +331,23 @@ public class MyLinkedList<E>
      * Если в списке отсутствует указанный элемент, список не меняется.
      */
     public boolean remove(Object o) {
+        int index = 0;
+        Node<E> x = first;
         if (o == null) {
-            for (Node<E> x = first; x != null; x = x.next) {
-                if (x.item == null) {
-                    unlink(x);
-                    return true;
-                }
-            }
+            for (; x != null; x = x.next, index++)
+                if (x.item == null)
+                    break;
         } else {
-            for (Node<E> x = first; x != null; x = x.next) {
-                if (o.equals(x.item)) {
-                    unlink(x);
-                    return true;
-                }
-            }
+            for (; x != null; x = x.next, index++)
+                if (o.equals(x.item))
+                    break;
         }
-        return false;
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.scanned(this, "remove", x == null ? index : index + 1, x != null);
+        if (x == null)
+            return false;
+        unlink(x, index);
+        return true;
     }
 
     /**
@@ -296,6 +400,7 @@ public class MyLinkedList<E>
             succ.prev = pred;
         }
 
+        fingersInserted(index, numNew);
         size += numNew;
         modCount++;
         return true;
@@ -314,10 +419,107 @@ public class MyLinkedList<E>
             x = next;
         }
         first = last = null;
+        invalidateFingers();
         size = 0;
         modCount++;
     }
 
+    // Перенос узлов между списками
+
+    /**
+     * Переносит все элементы other в конец этого списка, перевязывая крайние узлы без копирования, за O(1).
+     * other становится пустым. Итераторы обоих списков после переноса бросают ConcurrentModificationException.
+     *
+     * @throws IllegalArgumentException если other — этот же список
+     */
+    public void spliceLast(MyLinkedList<? extends E> other) {
+        spliceAt(size, other);
+    }
+
+    /**
+     * Вставляет все элементы other в этот список перед позицией index, перевязывая крайние узлы
+     * без копирования. Стоимость — поиск узла по индексу, сам перенос выполняется за O(1).
+     * other становится пустым. Итераторы обоих списков после переноса бросают ConcurrentModificationException.
+     *
+     * @throws IndexOutOfBoundsException если index < 0 или index > size()
+     * @throws IllegalArgumentException если other — этот же список
+     */
+    @SuppressWarnings("unchecked")
+    public void spliceAt(int index, MyLinkedList<? extends E> other) {
+        checkPositionIndex(index);
+        if (other == this)
+            throw new IllegalArgumentException("Список не может быть перенесен сам в себя");
+        final int numNew = other.size;
+        if (numNew == 0)
+            return;
+        // other опустошается ниже, поэтому его узлы больше не видны как Node<? extends E>
+        final Node<E> f = (Node<E>) other.first;
+        final Node<E> l = (Node<E>) other.last;
+
+        final Node<E> pred, succ;
+        if (index == size) {
+            succ = null;
+            pred = last;
+        } else {
+            succ = node(index);
+            pred = succ.prev;
+        }
+
+        f.prev = pred;
+        l.next = succ;
+        if (pred == null)
+            first = f;
+        else
+            pred.next = f;
+        if (succ == null)
+            last = l;
+        else
+            succ.prev = l;
+
+        fingersInserted(index, numNew);
+        size += numNew;
+        modCount++;
+
+        other.first = null;
+        other.last = null;
+        other.invalidateFingers();
+        other.size = 0;
+        other.modCount++;
+    }
+
+    /**
+     * Отрезает элементы с позиции index до конца списка и возвращает их новым списком.
+     * Узлы не копируются: стоимость — поиск узла по индексу, само отрезание выполняется за O(1).
+     * Итераторы этого списка после вызова бросают ConcurrentModificationException.
+     *
+     * @throws IndexOutOfBoundsException если index < 0 или index > size()
+     */
+    public MyLinkedList<E> splitAt(int index) {
+        checkPositionIndex(index);
+        final MyLinkedList<E> tail = new MyLinkedList<>();
+        final int numMoved = size - index;
+        if (numMoved == 0)
+            return tail;
+
+        final Node<E> f = node(index);
+        final Node<E> pred = f.prev;
+        tail.first = f;
+        tail.last = last;
+        tail.size = numMoved;
+
+        f.prev = null;
+        if (pred == null)
+            first = null;
+        else
+            pred.next = null;
+        last = pred;
+
+        fingersTruncated(index);
+        size = index;
+        modCount++;
+        return tail;
+    }
+
 
     // Операции позиционного доступа
 
@@ -351,7 +553,7 @@ public class MyLinkedList<E>
         if (index == size)
             linkLast(element);
         else
-            linkBefore(element, node(index));
+            linkBefore(element, node(index), index);
     }
 
     /**
@@ -361,7 +563,7 @@ public class MyLinkedList<E>
      */
     public E remove(int index) {
         checkElementIndex(index);
-        return unlink(node(index));
+        return unlink(node(index), index);
     }
 
     /**
@@ -397,20 +599,58 @@ public class MyLinkedList<E>
 
     /**
      * Возвращает ненулевой узел указанного индекса.
+     * Обход начинается с ближайшей из точек: first, last или один из запомненных пальцев.
+     * Найденный узел запоминается как палец, поэтому последовательный и почти последовательный
+     * доступ по индексу выполняется за амортизированное O(1).
+     *
+     * Метод записывает пальцы и при чтении, но каждый слот читается и пишется одной ссылкой
+     * на неизменяемый Finger, поэтому несколько потоков по-прежнему могут одновременно читать
+     * список, который никто не изменяет.
      */
+    @SuppressWarnings("unchecked")
     Node<E> node(int index) {
+        Finger<E>[] fs = fingers;
+        if (fs == null)
+            fs = fingers = (Finger<E>[]) new Finger<?>[FINGERS];
 
+        int from;
+        Node<E> x;
         if (index < (size >> 1)) {
-            Node<E> x = first;
-            for (int i = 0; i < index; i++)
+            from = 0;
+            x = first;
+        } else {
+            from = size - 1;
+            x = last;
+        }
+        int dist = Math.abs(index - from);
+        int finger = -1;
+        for (int k = 0; k < FINGERS && dist > 0; k++) {
+            final Finger<E> f = fs[k];
+            if (f != null && Math.abs(index - f.index) < dist) {
+                dist = Math.abs(index - f.index);
+                from = f.index;
+                x = f.node;
+                finger = k;
+            }
+        }
+
+        if (from < index) {
+            for (int i = from; i < index; i++)
                 x = x.next;
-            return x;
         } else {
-            Node<E> x = last;
-            for (int i = size - 1; i > index; i--)
+            for (int i = from; i > index; i--)
                 x = x.prev;
-            return x;
         }
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.nodeWalked(index, size, dist);
+
+        // Сдвигаем использованный палец или занимаем новый слот по кругу
+        if (finger < 0) {
+            finger = nextFinger;
+            nextFinger = (finger + 1) % FINGERS;
+        }
+        fs[finger] = new Finger<>(index, x);
+        return x;
     }
 
     // Операции поиска
@@ -420,6 +660,13 @@ public class MyLinkedList<E>
      * Возвращает наименьший индекс i, такой что Objects.equals(o, get(i)), или -1, если такого индекса нет.
      */
     public int indexOf(Object o) {
+        final int i = indexOfScan(o);
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.scanned(this, "indexOf", i < 0 ? size : i + 1, i >= 0);
+        return i;
+    }
+
+    private int indexOfScan(Object o) {
         int index = 0;
         if (o == null) {
             for (Node<E> x = first; x != null; x = x.next) {
@@ -442,6 +689,13 @@ public class MyLinkedList<E>
      * Возвращает наивысший индекс i, такой что Objects.equals(o, get(i)), или -1, если такого индекса нет.
      */
     public int lastIndexOf(Object o) {
+        final int i = lastIndexOfScan(o);
+        if (ListInstrumentation.ENABLED)
+            ListInstrumentation.scanned(this, "lastIndexOf", i < 0 ? size : size - i, i >= 0);
+        return i;
+    }
+
+    private int lastIndexOfScan(Object o) {
         int index = size;
         if (o == null) {
             for (Node<E> x = last; x != null; x = x.prev) {
@@ -581,17 +835,18 @@ public class MyLinkedList<E>
      * Если список не содержит элемента, он не изменяется.
      */
     public boolean removeLastOccurrence(Object o) {
+        int index = size - 1;
         if (o == null) {
-            for (Node<E> x = last; x != null; x = x.prev) {
+            for (Node<E> x = last; x != null; x = x.prev, index--) {
                 if (x.item == null) {
-                    unlink(x);
+                    unlink(x, index);
                     return true;
                 }
             }
         } else {
-            for (Node<E> x = last; x != null; x = x.prev) {
+            for (Node<E> x = last; x != null; x = x.prev, index--) {
                 if (o.equals(x.item)) {
-                    unlink(x);
+                    unlink(x, index);
                     return true;
                 }
             }
@@ -663,7 +918,7 @@ public class MyLinkedList<E>
                 throw new IllegalStateException();
 
             Node<E> lastNext = lastReturned.next;
-            unlink(lastReturned);
+            unlink(lastReturned, (next == lastReturned) ? nextIndex : nextIndex - 1);
             if (next == lastReturned)
                 next = lastNext;
             else
@@ -685,7 +940,7 @@ public class MyLinkedList<E>
             if (next == null)
                 linkLast(e);
             else
-                linkBefore(e, next);
+                linkBefore(e, next, nextIndex);
             nextIndex++;
             expectedModCount++;
         }
@@ -702,8 +957,11 @@ public class MyLinkedList<E>
         }
 
         final void checkForComodification() {
-            if (modCount != expectedModCount)
+            if (modCount != expectedModCount) {
+                if (ListInstrumentation.ENABLED)
+                    ListInstrumentation.comodified(MyLinkedList.this);
                 throw new ConcurrentModificationException();
+            }
         }
     }
 
@@ -719,6 +977,20 @@ public class MyLinkedList<E>
         }
     }
 
+    /**
+     * Палец: узел node, находящийся в списке по индексу index. Поля final, поэтому палец,
+     * опубликованный без синхронизации, виден другим потокам полностью инициализированным.
+     */
+    private static final class Finger<E> {
+        final int index;
+        final Node<E> node;
+
+        Finger(int index, Node<E> node) {
+            this.index = index;
+            this.node = node;
+        }
+    }
+
     public Iterator<E> descendingIterator() {
         return new DescendingIterator();
     }
@@ -756,6 +1028,7 @@ public class MyLinkedList<E>
 
         // Перевести клон в первоначальное состояние
         clone.first = clone.last = null;
+        clone.fingers = null;
         clone.size = 0;
         clone.modCount = 0;
 
@@ -780,6 +1053,95 @@ public class MyLinkedList<E>
         return result;
     }
 
+    /**
+     * Сохраняет размер и элементы списка в поток (от первого до последнего элемента).
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+
+        s.writeInt(size);
+
+        for (Node<E> x = first; x != null; x = x.next)
+            s.writeObject(x.item);
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Восстанавливает список из потока.
+     */
+    @java.io.Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+
+        int size = s.readInt();
+        if (size < 0)
+            throw new java.io.InvalidObjectException("Некорректный размер: " + size);
+
+        for (int i = 0; i < size; i++)
+            linkLast((E) s.readObject());
+    }
+
+    /**
+     * Записывает список в двоичном формате MyArrayList.writeTo: заголовок с размером,
+     * затем элементы, закодированные codec. Записанное можно прочитать как MyLinkedList, так и MyArrayList.
+     */
+    public void writeTo(java.io.DataOutput out, ElementCodec<? super E> codec)
+            throws java.io.IOException {
+        Objects.requireNonNull(codec);
+        final int expectedModCount = modCount;
+        ListBinaryFormat.writeHeader(out, size);
+        for (Node<E> x = first; x != null; x = x.next)
+            codec.write(x.item, out);
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Записывает список в двоичном формате в канал через промежуточный буфер. Канал не закрывается.
+     */
+    public void writeTo(java.nio.channels.WritableByteChannel channel, ElementCodec<? super E> codec)
+            throws java.io.IOException {
+        final ChannelDataOutput out = new ChannelDataOutput(channel);
+        writeTo(out, codec);
+        out.flush();
+    }
+
+    /**
+     * Читает список, записанный методом writeTo (MyLinkedList или MyArrayList).
+     *
+     * @throws java.io.IOException если данные повреждены или закончились раньше времени
+     */
+    public static <E> MyLinkedList<E> readFrom(java.io.DataInput in, ElementCodec<? extends E> codec)
+            throws java.io.IOException {
+        Objects.requireNonNull(codec);
+        final int size = ListBinaryFormat.readHeader(in);
+        final MyLinkedList<E> list = new MyLinkedList<>();
+        for (int i = 0; i < size; i++)
+            list.linkLast(codec.read(in));
+        return list;
+    }
+
+    /**
+     * Читает список, записанный методом writeTo, из канала. Если канал поддерживает позиционирование,
+     * после чтения он установлен на первый байт за списком.
+     */
+    public static <E> MyLinkedList<E> readFrom(java.nio.channels.ReadableByteChannel channel,
+                                               ElementCodec<? extends E> codec)
+            throws java.io.IOException {
+        final ChannelDataInput in = new ChannelDataInput(channel);
+        final MyLinkedList<E> list = readFrom(in, codec);
+        in.release();
+        return list;
+    }
+
     @Override
     public Spliterator<E> spliterator() {
         return new LLSpliterator<>(this, -1, 0);
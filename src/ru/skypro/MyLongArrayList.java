@@ -0,0 +1,644 @@
+package ru.skypro;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+import jdk.internal.access.SharedSecrets;
+import jdk.internal.util.ArraysSupport;
+
+
+/**
+ * Список примитивов long на основе массива, аналог MyArrayList&lt;Long&gt; без упаковки элементов.
+ * Сохраняет политику роста MyArrayList (grow/ensureCapacity/trimToSize)
+ * и отказоустойчивые (fail-fast) итераторы.
+ * Для совместимости с кодом, ожидающим List&lt;Long&gt;, используйте {@link #asList()}.
+ */
+public class MyLongArrayList implements RandomAccess, Cloneable, java.io.Serializable
+{
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+    /**
+     Дефолтный размер списка при объявлении
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+    Общий пустой экземпляр массива, используемый для пустых экземпляров.
+     */
+    private static final long[] EMPTY_ELEMENTDATA = {};
+
+    /**
+     Общий пустой экземпляр массива, используемый для пустых экземпляров размера по умолчанию.
+     Отличается от EMPTY_ELEMENTDATA, чтобы знать, насколько он будет увеличиваться при добавлении первого элемента.
+     */
+    private static final long[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {};
+    /**
+     Буфер массива, в котором хранятся элементы списка. Емкость списка равна длине этого буфера массива.
+     */
+    transient long[] elementData; //Неприватный для упрощения доступа к вложенным классам
+    /**
+    Размер списка (кол-во элементов в списке)
+    */
+    private int size;
+    /**
+    Количество структурных изменений списка, используется итераторами для fail-fast проверки
+    */
+    protected transient int modCount = 0;
+
+    /**
+    Представление asList(); создается при первом вызове и получает modCount этого списка
+    при каждом структурном изменении
+    */
+    private transient BoxedView boxed;
+
+    /**
+     * Создает пустой список с указанной начальной емкостью
+     *
+     * @param  initialCapacity  начальная емкость списка
+     * @throws IllegalArgumentException бросает ошибку, если передаваемая емкость < 0 (отрицательная)
+     */
+    public MyLongArrayList(int initialCapacity) {
+        if (initialCapacity > 0) {
+            this.elementData = new long[initialCapacity];
+        } else if (initialCapacity == 0) {
+            this.elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new IllegalArgumentException("Некорректное значение: "+
+                    initialCapacity);
+        }
+    }
+
+    /**
+     * Создает пустой список с начальной емкостью 10.
+     */
+    public MyLongArrayList() {
+        this.elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+    }
+
+    /**
+     * Создает список, содержащий копию указанного массива.
+     */
+    public MyLongArrayList(long[] a) {
+        if ((size = a.length) != 0) {
+            elementData = Arrays.copyOf(a, size);
+        } else {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+    }
+
+    /**
+     * Обрезает емкость списка до текущего размера (size).
+     */
+    public void trimToSize() {
+        incrementModCount();
+        if (size < elementData.length) {
+            elementData = (size == 0)
+                    ? EMPTY_ELEMENTDATA
+                    : Arrays.copyOf(elementData, size);
+        }
+    }
+
+    /**
+     * Увеличивает емкость списка при необходимости,
+     * чтобы гарантированно иметь minCapacity элементов
+     *
+     * @param minCapacity желаемая минимальная емкость
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length
+                && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENTDATA
+                && minCapacity <= DEFAULT_CAPACITY)) {
+            incrementModCount();
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Увеличивает емкость списка так же, как MyArrayList.grow: в полтора раза,
+     * но не меньше minCapacity.
+     *
+     * @param minCapacity желаемая минимальная емкость
+     * @throws OutOfMemoryError если minCapacity < 0 (отрицательное)
+     */
+    private long[] grow(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+
+            int newCapacity = ArraysSupport.newLength(oldCapacity,
+                    minCapacity - oldCapacity, /* минимальный рост */
+                    oldCapacity >> 1           /* предпочтительный рост */);
+            return elementData = Arrays.copyOf(elementData, newCapacity);
+        } else {
+            return elementData = new long[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+    }
+
+    private long[] grow() { return grow(size + 1); }
+
+    // Возвращает размер списка
+    public int size() { return size; }
+
+    // Проверить список на наличие в нем элементов. Возвращает true или false
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Проверяет, содержится ли элемент e в списке. Возвращает true или false
+    public boolean contains(long e) {
+        return indexOf(e) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в списке
+     * или -1, если список не содержит данный элемент
+     */
+    public int indexOf(long e) {
+        final long[] es = elementData;
+        for (int i = 0, s = size; i < s; i++) {
+            if (es[i] == e) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента в списке
+     * или -1, если список не содержит данный элемент
+     */
+    public int lastIndexOf(long e) {
+        final long[] es = elementData;
+        for (int i = size - 1; i >= 0; i--) {
+            if (es[i] == e) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Возвращает созданную копию этого списка
+    public Object clone() {
+        try {
+            MyLongArrayList v = (MyLongArrayList) super.clone();
+            v.elementData = Arrays.copyOf(elementData, size);
+            v.modCount = 0;
+            v.boxed = null;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            // этого не должно происходить, так как мы Cloneable
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы списка в правильной последовательности.
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    // Операции позиционного доступа
+
+    // Возвращает элемент по указанному индексу в списке
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return elementData[index];
+    }
+
+    // Заменяет элемент списка по указанному индексу на указанный элемент
+    public long setLong(int index, long element) {
+        Objects.checkIndex(index, size);
+        long oldValue = elementData[index];
+        elementData[index] = element;
+        return oldValue;
+    }
+
+    // Этот вспомогательный метод отделен от addLong(long), чтобы размер байт-кода метода не превышал 35.
+    private void add(long e, long[] elementData, int s) {
+        if (s == elementData.length)
+            elementData = grow();
+        elementData[s] = e;
+        size = s + 1;
+    }
+
+    // Добавляет указанный элемент в конец списка
+    public void addLong(long e) {
+        incrementModCount();
+        add(e, elementData, size);
+    }
+
+    /**
+     * Вставляет указанный элемент element в указанную позицию index в этом списке.
+     * Сдвигает последующие элементы вправо.
+     */
+    public void addLong(int index, long element) {
+        rangeCheckForAdd(index);
+        incrementModCount();
+        final int s;
+        long[] elementData;
+        if ((s = size) == (elementData = this.elementData).length)
+            elementData = grow();
+        System.arraycopy(elementData, index,
+                elementData, index + 1,
+                s - index);
+        elementData[index] = element;
+        size = s + 1;
+    }
+
+    /**
+     * Добавляет все элементы указанного массива в конец списка.
+     */
+    public void addAll(long[] a) {
+        incrementModCount();
+        int numNew = a.length;
+        if (numNew == 0)
+            return;
+        long[] elementData;
+        final int s;
+        if (numNew > (elementData = this.elementData).length - (s = size))
+            elementData = grow(s + numNew);
+        System.arraycopy(a, 0, elementData, s, numNew);
+        size = s + numNew;
+    }
+
+    /**
+     * Удаляет элемент в указанной позиции index в списке и возвращает его.
+     * Сдвигает все последующие элементы влево.
+     */
+    public long removeLong(int index) {
+        Objects.checkIndex(index, size);
+        final long[] es = elementData;
+        long oldValue = es[index];
+        incrementModCount();
+        final int newSize;
+        if ((newSize = size - 1) > index)
+            System.arraycopy(es, index + 1, es, index, newSize - index);
+        size = newSize;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет все элементы в списке.
+     */
+    public void clear() {
+        incrementModCount();
+        size = 0;
+    }
+
+    /**
+     * Версия rangeCheck, используемая addLong.
+     */
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Создает подробное сообщение IndexOutOfBoundsException.
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: "+index+", Size: "+size;
+    }
+
+    /**
+     * Учитывает структурное изменение в этом списке и в его представлении asList().
+     */
+    private void incrementModCount() {
+        modCount++;
+        final BoxedView v = boxed;
+        if (v != null)
+            v.syncModCount();
+    }
+
+    private void checkForComodification(final int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Выполняет action для каждого элемента списка без упаковки.
+     */
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final long[] es = elementData;
+        final int size = this.size;
+        for (int i = 0; i < size; i++)
+            action.accept(es[i]);
+        checkForComodification(expectedModCount);
+    }
+
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof MyLongArrayList)) {
+            return false;
+        }
+        MyLongArrayList other = (MyLongArrayList) o;
+        return Arrays.equals(elementData, 0, size, other.elementData, 0, other.size);
+    }
+
+    public int hashCode() {
+        final long[] es = elementData;
+        int hashCode = 1;
+        for (int i = 0, s = size; i < s; i++)
+            hashCode = 31 * hashCode + Long.hashCode(es[i]);
+        return hashCode;
+    }
+
+    public String toString() {
+        final long[] es = elementData;
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0, s = size; i < s; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(es[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Сохраняет состояние списка в поток.
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+
+        for (int i=0; i<size; i++) {
+            s.writeLong(elementData[i]);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Восстанавливает список из потока.
+     */
+    @java.io.Serial
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+
+        s.defaultReadObject();
+
+        if (size > 0) {
+
+            SharedSecrets.getJavaObjectInputStreamAccess().checkArray(s, long[].class, size);
+            long[] elements = new long[size];
+
+            for (int i = 0; i < size; i++) {
+                elements[i] = s.readLong();
+            }
+
+            elementData = elements;
+        } else if (size == 0) {
+            elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new java.io.InvalidObjectException("Некорректный размер: " + size);
+        }
+    }
+
+    /**
+     * Возвращает fail-fast итератор по элементам списка без упаковки.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Возвращает позднесвязывающий fail-fast Spliterator по элементам списка,
+     * делящий диапазон индексов пополам.
+     */
+    public Spliterator.OfLong spliterator() {
+        return new LongArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Возвращает последовательный LongStream по элементам списка.
+     */
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный LongStream по элементам списка.
+     */
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * Возвращает представление списка в виде List&lt;Long&gt;. Изменения в представлении
+     * отражаются в этом списке и наоборот. Каждое обращение через представление упаковывает элемент.
+     * Итераторы и subList представления обнаруживают и изменения, сделанные напрямую в этом списке.
+     */
+    public List<Long> asList() {
+        BoxedView v = boxed;
+        if (v == null)
+            boxed = v = new BoxedView();
+        return v;
+    }
+
+    // Итератор по long без упаковки
+    private class Itr implements PrimitiveIterator.OfLong {
+        int cursor;
+        int lastRet = -1;
+        int expectedModCount = modCount;
+
+        Itr() {}
+
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        public long nextLong() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            long[] elementData = MyLongArrayList.this.elementData;
+            if (i >= elementData.length)
+                throw new ConcurrentModificationException();
+            cursor = i + 1;
+            return elementData[lastRet = i];
+        }
+
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            try {
+                MyLongArrayList.this.removeLong(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            } catch (IndexOutOfBoundsException ex) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            final int size = MyLongArrayList.this.size;
+            int i = cursor;
+            if (i < size) {
+                final long[] es = elementData;
+                if (i >= es.length)
+                    throw new ConcurrentModificationException();
+                for (; i < size && modCount == expectedModCount; i++)
+                    action.accept(es[i]);
+                cursor = i;
+                lastRet = i - 1;
+                checkForComodification();
+            }
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /** Индексный Spliterator по elementData, делящийся пополам */
+    final class LongArrayListSpliterator implements Spliterator.OfLong {
+        private int index; // текущий индекс, изменяется при advance/split
+        private int fence; // -1 до первого использования; затем индекс за последним элементом
+        private int expectedModCount; // инициализируется вместе с fence
+
+        LongArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() { // инициализирует fence размером списка при первом использовании
+            int hi;
+            if ((hi = fence) < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        public LongArrayListSpliterator trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null :
+                    new LongArrayListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        public boolean tryAdvance(LongConsumer action) {
+            if (action == null)
+                throw new NullPointerException();
+            int hi = getFence(), i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept(elementData[i]);
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        public void forEachRemaining(LongConsumer action) {
+            int i, hi, mc; // поля читаются один раз вне цикла
+            long[] a;
+            if (action == null)
+                throw new NullPointerException();
+            if ((a = elementData) != null) {
+                if ((hi = fence) < 0) {
+                    mc = modCount;
+                    hi = size;
+                } else
+                    mc = expectedModCount;
+                if ((i = index) >= 0 && (index = hi) <= a.length) {
+                    for (; i < hi; ++i)
+                        action.accept(a[i]);
+                    if (modCount == mc)
+                        return;
+                }
+            }
+            throw new ConcurrentModificationException();
+        }
+
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Представление списка в виде List&lt;Long&gt;. Элементы null не допускаются.
+     * Унаследованный modCount, по которому AbstractList проверяет итераторы и subList,
+     * повторяет modCount внешнего списка: его обновляет incrementModCount.
+     */
+    private class BoxedView extends AbstractList<Long> implements RandomAccess {
+        BoxedView() {
+            syncModCount();
+        }
+
+        void syncModCount() {
+            modCount = MyLongArrayList.this.modCount;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Long get(int index) {
+            return getLong(index);
+        }
+
+        public Long set(int index, Long element) {
+            return setLong(index, element);
+        }
+
+        public void add(int index, Long element) {
+            addLong(index, element);
+        }
+
+        public Long remove(int index) {
+            Long oldValue = removeLong(index);
+            return oldValue;
+        }
+
+        public int indexOf(Object o) {
+            return (o instanceof Long) ? MyLongArrayList.this.indexOf((Long) o) : -1;
+        }
+
+        public int lastIndexOf(Object o) {
+            return (o instanceof Long) ? MyLongArrayList.this.lastIndexOf((Long) o) : -1;
+        }
+
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        public void clear() {
+            MyLongArrayList.this.clear();
+        }
+
+        public Iterator<Long> iterator() {
+            return MyLongArrayList.this.iterator();
+        }
+
+        public Spliterator<Long> spliterator() {
+            return MyLongArrayList.this.spliterator();
+        }
+
+        public void forEach(Consumer<? super Long> action) {
+            Objects.requireNonNull(action);
+            MyLongArrayList.this.forEach((LongConsumer) action::accept);
+        }
+    }
+}
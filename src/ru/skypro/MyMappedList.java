@@ -0,0 +1,304 @@
+package ru.skypro;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import jdk.internal.util.ArraysSupport;
+
+
+/**
+ * Список записей фиксированной длины, хранящийся в файле, отображенном в память (memory-mapped).
+ * Содержимое переживает перезапуск процесса: повторное открытие файла читает только заголовок
+ * и выполняется за O(1), без десериализации элементов.
+ *
+ * Формат файла: заголовок из HEADER_SIZE байт (сигнатура, версия, длина записи,
+ * зафиксированный размер), за ним слоты записей длиной recordSize.
+ * Записи кодируются переданным RecordCodec.
+ *
+ * Список поддерживает добавление в конец, чтение и замену по индексу, а также усечение хвоста
+ * ({@link #truncate(int)}); вставка и удаление из середины не поддерживаются,
+ * чтобы добавление никогда не переписывало существующие записи.
+ *
+ * Долговечность: {@link #force()} сбрасывает измененные страницы на диск,
+ * {@link #checkpoint()} дополнительно фиксирует размер в заголовке.
+ * После сбоя при повторном открытии виден размер последней контрольной точки;
+ * записи, добавленные после нее, отбрасываются. {@link #close()} выполняет checkpoint.
+ */
+public class MyMappedList<T> extends AbstractList<T>
+        implements List<T>, RandomAccess, AutoCloseable
+{
+    /**
+     Сигнатура файла ("MLST")
+     */
+    private static final int MAGIC = 0x4D4C5354;
+    private static final int VERSION = 1;
+
+    /**
+     Длина заголовка файла в байтах
+     */
+    static final int HEADER_SIZE = 32;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+
+    /**
+     Емкость в записях нового файла
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final RecordCodec<T> codec;
+    private final int recordSize;
+    private final int maxCapacity;
+    private final FileChannel channel;
+
+    /**
+     Отображение всего файла (заголовок и слоты); null после close()
+     */
+    private MappedByteBuffer mapping;
+
+    /**
+    Размер списка (кол-во записей в списке)
+    */
+    private int size;
+
+    /**
+    Размер, записанный в заголовок последней контрольной точкой
+    */
+    private int checkpointedSize;
+
+    /**
+     * Открывает список в указанном файле, создавая файл, если его нет.
+     * Существующий файл должен быть создан MyMappedList с кодеком той же длины записи.
+     *
+     * @throws IOException если файл не удалось открыть или его формат не распознан
+     */
+    public MyMappedList(Path file, RecordCodec<T> codec) throws IOException {
+        this.codec = Objects.requireNonNull(codec);
+        this.recordSize = codec.recordSize();
+        if (recordSize <= 0)
+            throw new IllegalArgumentException("Некорректная длина записи: " + recordSize);
+        this.maxCapacity = (ArraysSupport.SOFT_MAX_ARRAY_LENGTH - HEADER_SIZE) / recordSize;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long length = channel.size();
+            if (length == 0) {
+                mapping = map(DEFAULT_CAPACITY);
+                mapping.putInt(MAGIC_OFFSET, MAGIC);
+                mapping.putInt(VERSION_OFFSET, VERSION);
+                mapping.putInt(RECORD_SIZE_OFFSET, recordSize);
+                mapping.putLong(SIZE_OFFSET, 0);
+                mapping.force();
+            } else {
+                if (length < HEADER_SIZE || length > ArraysSupport.SOFT_MAX_ARRAY_LENGTH)
+                    throw new IOException("Некорректная длина файла: " + length);
+                mapping = map((int) ((length - HEADER_SIZE) / recordSize));
+                if (mapping.getInt(MAGIC_OFFSET) != MAGIC || mapping.getInt(VERSION_OFFSET) != VERSION)
+                    throw new IOException("Файл не является MyMappedList: " + file);
+                if (mapping.getInt(RECORD_SIZE_OFFSET) != recordSize)
+                    throw new IOException("Длина записи в файле " + mapping.getInt(RECORD_SIZE_OFFSET)
+                            + " не совпадает с длиной записи кодека " + recordSize);
+                long storedSize = mapping.getLong(SIZE_OFFSET);
+                if (storedSize < 0 || storedSize > capacity())
+                    throw new IOException("Некорректный размер: " + storedSize);
+                size = checkpointedSize = (int) storedSize;
+            }
+        } catch (IOException | RuntimeException e) {
+            if (mapping != null)
+                DirectBuffers.free(mapping);
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Отображает файл с емкостью capacity записей; при необходимости файл увеличивается.
+     */
+    private MappedByteBuffer map(int capacity) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * recordSize);
+    }
+
+    private MappedByteBuffer mapping() {
+        final MappedByteBuffer m = mapping;
+        if (m == null)
+            throw new IllegalStateException("Список закрыт");
+        return m;
+    }
+
+    /**
+     * Возвращает текущую емкость файла в записях.
+     */
+    public int capacity() {
+        return (mapping().capacity() - HEADER_SIZE) / recordSize;
+    }
+
+    /**
+     * Увеличивает файл при необходимости, чтобы гарантированно вместить minCapacity записей.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Увеличивает емкость файла в полтора раза, но не меньше чем до minCapacity, как MyArrayList.grow,
+     * и заново отображает файл. Ранее записанные данные остаются на месте.
+     */
+    private void grow(int minCapacity) {
+        final int oldCapacity = capacity();
+        if (minCapacity < 0 || minCapacity > maxCapacity)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика: " + minCapacity);
+        int newCapacity = Math.min(maxCapacity, ArraysSupport.newLength(oldCapacity,
+                minCapacity - oldCapacity, /* минимальный рост */
+                oldCapacity >> 1           /* предпочтительный рост */));
+        try {
+            final MappedByteBuffer old = mapping;
+            mapping = map(newCapacity);
+            DirectBuffers.free(old);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Возвращает размер списка
+    public int size() { return size; }
+
+    /**
+     * Возвращает запись по указанному индексу.
+     */
+    public T get(int index) {
+        final MappedByteBuffer m = mapping();
+        Objects.checkIndex(index, size);
+        return codec.read(m, HEADER_SIZE + index * recordSize);
+    }
+
+    /**
+     * Читает запись по указанному индексу в существующий объект reuse через RecordCodec.readInto.
+     */
+    public T get(int index, T reuse) {
+        final MappedByteBuffer m = mapping();
+        Objects.checkIndex(index, size);
+        return codec.readInto(m, HEADER_SIZE + index * recordSize, reuse);
+    }
+
+    /**
+     * Заменяет запись по указанному индексу на месте. Возвращает прежнее значение.
+     */
+    public T set(int index, T element) {
+        final MappedByteBuffer m = mapping();
+        Objects.checkIndex(index, size);
+        final int offset = HEADER_SIZE + index * recordSize;
+        T oldValue = codec.read(m, offset);
+        codec.write(element, m, offset);
+        return oldValue;
+    }
+
+    /**
+     * Добавляет запись в конец списка. Существующие записи не переписываются.
+     *
+     * @throws UncheckedIOException если файл не удалось увеличить
+     */
+    public boolean add(T e) {
+        modCount++;
+        final int s = size;
+        if (s == capacity())
+            grow(s + 1);
+        codec.write(e, mapping, HEADER_SIZE + s * recordSize);
+        size = s + 1;
+        return true;
+    }
+
+    /**
+     * Отбрасывает записи с индексом не меньше newSize. Файл не уменьшается.
+     */
+    public void truncate(int newSize) {
+        mapping();
+        if (newSize < 0 || newSize > size)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(newSize));
+        modCount++;
+        size = newSize;
+    }
+
+    /**
+     * Удаляет все записи (эквивалентно truncate(0)).
+     */
+    public void clear() {
+        truncate(0);
+    }
+
+    /**
+     * Поддерживает удаление только хвоста списка (например, subList(from, size()).clear()).
+     *
+     * @throws UnsupportedOperationException если toIndex != size()
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (toIndex != size)
+            throw new UnsupportedOperationException("Удалять можно только хвост списка");
+        truncate(fromIndex);
+    }
+
+    /**
+     * Сбрасывает измененные страницы файла на диск. Размер в заголовке не меняется.
+     */
+    public void force() {
+        mapping().force();
+    }
+
+    /**
+     * Фиксирует текущее состояние: сбрасывает записи на диск, затем записывает размер в заголовок
+     * и сбрасывает заголовок. Повторное открытие файла увидит ровно size() записей.
+     */
+    public void checkpoint() {
+        final MappedByteBuffer m = mapping();
+        m.force(HEADER_SIZE, size * recordSize);
+        m.putLong(SIZE_OFFSET, size);
+        m.force(0, HEADER_SIZE);
+        checkpointedSize = size;
+    }
+
+    /**
+     * Возвращает размер, зафиксированный последней контрольной точкой.
+     */
+    public int checkpointedSize() {
+        return checkpointedSize;
+    }
+
+    /**
+     * Выполняет checkpoint, освобождает отображение и закрывает файл. Повторный вызов ничего не делает.
+     *
+     * @throws UncheckedIOException если файл не удалось закрыть
+     */
+    @Override
+    public void close() {
+        if (mapping == null)
+            return;
+        try {
+            checkpoint();
+        } finally {
+            final MappedByteBuffer m = mapping;
+            mapping = null;
+            size = 0;
+            modCount++;
+            DirectBuffers.free(m);
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Создает подробное сообщение IndexOutOfBoundsException.
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: "+index+", Size: "+size;
+    }
+}
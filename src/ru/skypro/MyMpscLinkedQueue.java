@@ -0,0 +1,228 @@
+package ru.skypro;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Неблокирующая очередь для многих производителей и одного потребителя (MPSC) на связанных узлах.
+ * Сохраняет имена методов очереди MyLinkedList (offer, poll, peek), добавляя пакетный
+ * {@link #drain(Consumer, int)} и {@link #drainTo(Collection)}.
+ *
+ * Производители добавляют узел одной атомарной заменой хвоста (getAndSet) и затем связывают
+ * с ним предыдущий узел записью с release-семантикой. Потребитель читает следующий узел
+ * с acquire-семантикой и сдвигает голову обычной записью, без CAS и других атомарных операций.
+ *
+ * Методы offer/add/addAll можно вызывать из любого числа потоков одновременно.
+ * Методы poll, peek, drain, drainTo, remove, element, isEmpty, size, clear и iterator
+ * должен вызывать только один поток-потребитель (или потоки, упорядоченные внешней синхронизацией).
+ * Элементы null не допускаются.
+ */
+public class MyMpscLinkedQueue<E> extends AbstractQueue<E> implements Queue<E>
+{
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+    static {
+        try {
+            MethodHandles.Lookup l = MethodHandles.lookup();
+            TAIL = l.findVarHandle(MyMpscLinkedQueue.class, "tail", Node.class);
+            NEXT = l.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Узел-заглушка, за которым находится первый элемент. Изменяется только потребителем.
+     */
+    private Node<E> head;
+
+    /**
+     * Последний добавленный узел. Изменяется производителями через TAIL.getAndSet.
+     */
+    @SuppressWarnings("unused")
+    private volatile Node<E> tail;
+
+    /**
+     * Создание пустой очереди.
+     */
+    public MyMpscLinkedQueue() {
+        Node<E> stub = new Node<>(null);
+        head = stub;
+        tail = stub;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец очереди. Никогда не возвращает false.
+     *
+     * @throws NullPointerException если e == null
+     */
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        final Node<E> newNode = new Node<>(e);
+        @SuppressWarnings("unchecked")
+        final Node<E> prev = (Node<E>) TAIL.getAndSet(this, newNode);
+        // Между getAndSet и этой записью потребитель видит prev.next == null при head != tail
+        NEXT.setRelease(prev, newNode);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> nextOf(Node<E> x) {
+        return (Node<E>) NEXT.getAcquire(x);
+    }
+
+    /**
+     * Возвращает следующий за h узел, дожидаясь производителя, который уже заменил хвост,
+     * но еще не связал предыдущий узел. Возвращает null, если очередь пуста.
+     */
+    private Node<E> awaitNext(Node<E> h) {
+        Node<E> next = nextOf(h);
+        if (next == null && h != tail) {
+            do {
+                Thread.onSpinWait();
+            } while ((next = nextOf(h)) == null);
+        }
+        return next;
+    }
+
+    /**
+     * Сдвигает голову на узел next и возвращает его элемент.
+     * Старая заглушка ссылается сама на себя, чтобы не удерживать молодые узлы от сборки мусора.
+     */
+    private E advanceHead(Node<E> h, Node<E> next) {
+        final E element = next.item;
+        next.item = null;
+        h.next = h; // help GC
+        head = next;
+        return element;
+    }
+
+    /**
+     * Извлекает и удаляет первый элемент очереди или возвращает null, если очередь пуста.
+     * Только для потока-потребителя.
+     */
+    public E poll() {
+        final Node<E> h = head;
+        final Node<E> next = awaitNext(h);
+        return (next == null) ? null : advanceHead(h, next);
+    }
+
+    /**
+     * Извлекает, но не удаляет первый элемент очереди или возвращает null, если очередь пуста.
+     * Только для потока-потребителя.
+     */
+    public E peek() {
+        final Node<E> next = awaitNext(head);
+        return (next == null) ? null : next.item;
+    }
+
+    /**
+     * Извлекает до limit элементов и передает их action в порядке очереди.
+     * Не ждет производителей, которые еще не завершили добавление. Только для потока-потребителя.
+     *
+     * @return количество извлеченных элементов
+     */
+    public int drain(Consumer<? super E> action, int limit) {
+        Objects.requireNonNull(action);
+        int n = 0;
+        Node<E> h = head;
+        Node<E> next;
+        while (n < limit && (next = nextOf(h)) != null) {
+            final E e = advanceHead(h, next);
+            h = next;
+            n++;
+            action.accept(e);
+        }
+        return n;
+    }
+
+    /**
+     * Извлекает все доступные элементы и добавляет их в коллекцию c.
+     *
+     * @return количество перенесенных элементов
+     * @throws IllegalArgumentException если c — эта очередь
+     */
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Извлекает не более maxElements доступных элементов и добавляет их в коллекцию c.
+     *
+     * @return количество перенесенных элементов
+     * @throws IllegalArgumentException если c — эта очередь
+     */
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this)
+            throw new IllegalArgumentException();
+        return drain(c::add, maxElements);
+    }
+
+    /**
+     * Возвращает true, если в очереди нет элементов. Только для потока-потребителя.
+     */
+    public boolean isEmpty() {
+        final Node<E> h = head;
+        return nextOf(h) == null && h == tail;
+    }
+
+    /**
+     * Возвращает количество элементов, обходя очередь за O(n). Только для потока-потребителя;
+     * при одновременном добавлении результат приблизителен.
+     */
+    public int size() {
+        int size = 0;
+        for (Node<E> x = nextOf(head); x != null && size < Integer.MAX_VALUE; x = nextOf(x))
+            size++;
+        return size;
+    }
+
+    /**
+     * Удаляет все доступные элементы. Только для потока-потребителя.
+     */
+    public void clear() {
+        drain(e -> { }, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Возвращает слабо согласованный итератор по элементам от головы к хвосту.
+     * Итератор не бросает ConcurrentModificationException и не поддерживает remove.
+     * Только для потока-потребителя.
+     */
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements Iterator<E> {
+        private Node<E> next = nextOf(head);
+
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        public E next() {
+            final Node<E> x = next;
+            if (x == null)
+                throw new NoSuchElementException();
+            final E e = x.item;
+            Node<E> n = nextOf(x);
+            // Узел уже извлечен потребителем: продолжаем с текущей головы
+            if (n == x)
+                n = nextOf(head);
+            next = n;
+            return e;
+        }
+    }
+
+    private static final class Node<E> {
+        E item;
+        Node<E> next;
+
+        Node(E element) {
+            this.item = element;
+        }
+    }
+}
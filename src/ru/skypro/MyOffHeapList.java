@@ -0,0 +1,391 @@
+package ru.skypro;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+import jdk.internal.util.ArraysSupport;
+
+
+/**
+ * Список записей фиксированной длины, хранящихся вне кучи в прямом (direct) ByteBuffer.
+ * Записи кодируются переданным RecordCodec, поэтому в куче не остается ни массива ссылок,
+ * ни объектов на каждую запись, и сборщик мусора их не сканирует.
+ *
+ * Емкость растет и уменьшается так же, как у MyArrayList (grow/ensureCapacity/trimToSize),
+ * но измеряется в записях. Объем буфера ограничен 2 ГБ (индексация ByteBuffer через int).
+ * Память освобождается явно вызовом {@link #close()}; после закрытия любая операция
+ * бросает IllegalStateException.
+ *
+ * Для чтения без аллокаций используйте {@link #cursor()} или {@link #get(int, Object)}.
+ */
+public class MyOffHeapList<T> extends AbstractList<T>
+        implements List<T>, RandomAccess, AutoCloseable
+{
+    /**
+     Дефолтный размер списка в записях при объявлении
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     Размер промежуточного буфера для сдвига записей внутри списка
+     */
+    private static final int MOVE_CHUNK = 1 << 13;
+
+    private final RecordCodec<T> codec;
+
+    /**
+     Длина записи в байтах
+     */
+    private final int recordSize;
+
+    /**
+     Максимальная емкость в записях, при которой буфер не превышает предельной длины массива
+     */
+    private final int maxCapacity;
+
+    /**
+     Буфер с записями; null после close(). Емкость списка равна buffer.capacity() / recordSize
+     */
+    private ByteBuffer buffer;
+
+    /**
+    Размер списка (кол-во записей в списке)
+    */
+    private int size;
+
+    /**
+     * Создает пустой список с начальной емкостью 10 записей.
+     */
+    public MyOffHeapList(RecordCodec<T> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью в записях.
+     *
+     * @throws IllegalArgumentException если initialCapacity < 0 или длина записи кодека не положительна
+     */
+    public MyOffHeapList(RecordCodec<T> codec, int initialCapacity) {
+        this.codec = Objects.requireNonNull(codec);
+        this.recordSize = codec.recordSize();
+        if (recordSize <= 0)
+            throw new IllegalArgumentException("Некорректная длина записи: " + recordSize);
+        this.maxCapacity = ArraysSupport.SOFT_MAX_ARRAY_LENGTH / recordSize;
+        if (initialCapacity < 0 || initialCapacity > maxCapacity)
+            throw new IllegalArgumentException("Некорректное значение: " + initialCapacity);
+        this.buffer = allocate(initialCapacity);
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * recordSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Заменяет буфер новым буфером емкостью newCapacity записей, копируя существующие записи,
+     * и сразу освобождает память старого буфера.
+     */
+    private void reallocate(int newCapacity) {
+        final ByteBuffer old = buffer;
+        final ByteBuffer b = allocate(newCapacity);
+        b.put(0, old, 0, size * recordSize);
+        buffer = b;
+        DirectBuffers.free(old);
+    }
+
+    private ByteBuffer buffer() {
+        final ByteBuffer b = buffer;
+        if (b == null)
+            throw new IllegalStateException("Список закрыт");
+        return b;
+    }
+
+    /**
+     * Возвращает текущую емкость списка в записях.
+     */
+    public int capacity() {
+        return buffer().capacity() / recordSize;
+    }
+
+    /**
+     * Обрезает емкость списка до текущего размера (size).
+     */
+    public void trimToSize() {
+        modCount++;
+        if (size < capacity())
+            reallocate(size);
+    }
+
+    /**
+     * Увеличивает емкость списка при необходимости,
+     * чтобы гарантированно иметь minCapacity записей
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Увеличивает емкость в полтора раза, но не меньше чем до minCapacity, как MyArrayList.grow.
+     *
+     * @throws OutOfMemoryError если требуемая емкость превышает предельный размер буфера
+     */
+    private void grow(int minCapacity) {
+        int oldCapacity = capacity();
+        if (minCapacity < 0 || minCapacity > maxCapacity)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика: " + minCapacity);
+        int newCapacity = oldCapacity == 0
+                ? Math.max(DEFAULT_CAPACITY, minCapacity)
+                : ArraysSupport.newLength(oldCapacity,
+                        minCapacity - oldCapacity, /* минимальный рост */
+                        oldCapacity >> 1           /* предпочтительный рост */);
+        reallocate(Math.min(newCapacity, maxCapacity));
+    }
+
+    /**
+     * Освобождает память списка. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        final ByteBuffer b = buffer;
+        if (b != null) {
+            buffer = null;
+            size = 0;
+            modCount++;
+            DirectBuffers.free(b);
+        }
+    }
+
+    /**
+     * Возвращает true, если список закрыт.
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    // Возвращает размер списка
+    public int size() { return size; }
+
+    // Операции позиционного доступа
+
+    /**
+     * Возвращает запись по указанному индексу, декодируя ее в новый объект.
+     */
+    public T get(int index) {
+        final ByteBuffer b = buffer();
+        Objects.checkIndex(index, size);
+        return codec.read(b, index * recordSize);
+    }
+
+    /**
+     * Читает запись по указанному индексу в существующий объект reuse через RecordCodec.readInto
+     * и возвращает результат. При поддержке со стороны кодека не создает объектов.
+     */
+    public T get(int index, T reuse) {
+        final ByteBuffer b = buffer();
+        Objects.checkIndex(index, size);
+        return codec.readInto(b, index * recordSize, reuse);
+    }
+
+    /**
+     * Заменяет запись по указанному индексу. Возвращает прежнее значение.
+     */
+    public T set(int index, T element) {
+        final ByteBuffer b = buffer();
+        Objects.checkIndex(index, size);
+        final int offset = index * recordSize;
+        T oldValue = codec.read(b, offset);
+        codec.write(element, b, offset);
+        return oldValue;
+    }
+
+    // Добавляет указанную запись в конец списка
+    public boolean add(T e) {
+        modCount++;
+        final int s = size;
+        if (s == capacity())
+            grow(s + 1);
+        codec.write(e, buffer, s * recordSize);
+        size = s + 1;
+        return true;
+    }
+
+    /**
+     * Вставляет запись в указанную позицию, сдвигая последующие записи вправо.
+     */
+    public void add(int index, T element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        final int s = size;
+        if (s == capacity())
+            grow(s + 1);
+        moveRecords(index, index + 1, s - index);
+        codec.write(element, buffer, index * recordSize);
+        size = s + 1;
+    }
+
+    /**
+     * Удаляет запись в указанной позиции, сдвигая последующие записи влево. Возвращает удаленное значение.
+     */
+    public T remove(int index) {
+        final ByteBuffer b = buffer();
+        Objects.checkIndex(index, size);
+        T oldValue = codec.read(b, index * recordSize);
+        modCount++;
+        moveRecords(index + 1, index, size - index - 1);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет записи в диапазоне [fromIndex, toIndex) одним сдвигом хвоста.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+        modCount++;
+        moveRecords(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    /**
+     * Удаляет все записи. Емкость сохраняется.
+     */
+    public void clear() {
+        buffer();
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * Копирует count записей с позиции from на позицию to с учетом перекрытия диапазонов.
+     */
+    private void moveRecords(int from, int to, int count) {
+        if (count <= 0 || from == to)
+            return;
+        final ByteBuffer b = buffer();
+        final int src = from * recordSize, dst = to * recordSize;
+        final int length = count * recordSize;
+        final byte[] chunk = new byte[Math.min(MOVE_CHUNK, length)];
+        if (dst < src) {
+            for (int done = 0; done < length; done += chunk.length) {
+                int n = Math.min(chunk.length, length - done);
+                b.get(src + done, chunk, 0, n);
+                b.put(dst + done, chunk, 0, n);
+            }
+        } else {
+            for (int left = length; left > 0; left -= chunk.length) {
+                int n = Math.min(chunk.length, left);
+                b.get(src + left - n, chunk, 0, n);
+                b.put(dst + left - n, chunk, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Версия rangeCheck, используемая add.
+     */
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Создает подробное сообщение IndexOutOfBoundsException.
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: "+index+", Size: "+size;
+    }
+
+    /**
+     * Возвращает курсор для чтения и записи полей записей прямо в буфере без создания объектов.
+     * После структурного изменения списка (add, remove, trimToSize и т.п.) любой метод курсора бросает
+     * ConcurrentModificationException, после close() — IllegalStateException; курсор нужно получить заново.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Курсор-приспособленец (flyweight): указывает на одну запись списка и дает доступ
+     * к ее полям по смещению внутри записи. Один курсор используется для обхода всех записей.
+     */
+    public final class Cursor {
+        private int index = -1;
+        private int base;
+        private final ByteBuffer b;
+        private final int expectedModCount = modCount;
+
+        private Cursor() {
+            b = buffer();
+        }
+
+        /**
+         * Переводит курсор на запись с указанным индексом.
+         */
+        public Cursor moveTo(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            this.index = index;
+            this.base = index * recordSize;
+            return this;
+        }
+
+        /**
+         * Переводит курсор на следующую запись. Возвращает false, если записей больше нет.
+         */
+        public boolean next() {
+            checkForComodification();
+            if (index + 1 >= size)
+                return false;
+            base = ++index * recordSize;
+            return true;
+        }
+
+        /**
+         * Возвращает индекс текущей записи.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Декодирует текущую запись в reuse через RecordCodec.readInto.
+         */
+        public T read(T reuse) {
+            return codec.readInto(b(), base, reuse);
+        }
+
+        public byte getByte(int field) { return b().get(base + field); }
+        public short getShort(int field) { return b().getShort(base + field); }
+        public int getInt(int field) { return b().getInt(base + field); }
+        public long getLong(int field) { return b().getLong(base + field); }
+        public float getFloat(int field) { return b().getFloat(base + field); }
+        public double getDouble(int field) { return b().getDouble(base + field); }
+
+        public void putByte(int field, byte v) { b().put(base + field, v); }
+        public void putShort(int field, short v) { b().putShort(base + field, v); }
+        public void putInt(int field, int v) { b().putInt(base + field, v); }
+        public void putLong(int field, long v) { b().putLong(base + field, v); }
+        public void putFloat(int field, float v) { b().putFloat(base + field, v); }
+        public void putDouble(int field, double v) { b().putDouble(base + field, v); }
+
+        /**
+         * Возвращает буфер курсора, проверив, что список не закрыт и буфер не заменен:
+         * close() и reallocate() сразу освобождают память старого буфера, и обращение к нему
+         * читало бы или писало освобожденную память.
+         */
+        private ByteBuffer b() {
+            checkForComodification();
+            return b;
+        }
+
+        private void checkForComodification() {
+            final ByteBuffer current = buffer;
+            if (current == null)
+                throw new IllegalStateException("Список закрыт");
+            if (current != b || modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+}
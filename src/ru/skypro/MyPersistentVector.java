@@ -0,0 +1,638 @@
+package ru.skypro;
+import java.util.*;
+import java.util.function.Consumer;
+
+
+/**
+ * Неизменяемый (персистентный) список: каждая операция изменения возвращает новую версию,
+ * разделяющую с исходной все незатронутые узлы.
+ *
+ * Элементы хранятся в 32-ичном префиксном дереве (radix tree): листья — массивы по 32 элемента,
+ * индекс элемента разбирается по 5 бит на уровень. Последний неполный лист держится отдельно
+ * как хвост (tail), поэтому {@link #plus(Object)} обычно копирует только хвост, а в дерево
+ * уходит уже заполненный лист. {@link #with(int, Object)} копирует путь от корня до листа —
+ * O(log32 n) узлов, так что версия на каждое изменение стоит O(log n) памяти, а не O(n),
+ * как clone() у MyArrayList.
+ *
+ * {@link #slice(int, int)} выполняется за O(log32 n): версия хранит смещение origin первого элемента
+ * в дереве, копируются только узлы на левом и правом краях диапазона. {@link #concat(MyPersistentVector)}
+ * разделяет дерево этой версии и дописывает элементы второй листами, за O(размер второй версии).
+ *
+ * Для пакетного построения используется {@link Builder}: он изменяет на месте узлы, созданные им самим,
+ * и копирует только узлы, разделяемые с ранее выпущенными версиями.
+ *
+ * Элементы null допускаются. Версии можно без синхронизации передавать другим потокам.
+ */
+public final class MyPersistentVector<E> extends AbstractList<E>
+        implements RandomAccess, java.io.Serializable
+{
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     Количество бит индекса на уровень дерева
+     */
+    private static final int BITS = 5;
+
+    /**
+     Ширина узла и длина листа
+     */
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Узел дерева: массив из WIDTH детей (для внутренних узлов) или элементов (для листьев).
+     * edit — владелец узла: Builder изменяет на месте только узлы со своим edit;
+     * у узлов опубликованных версий edit ни с одним действующим Builder не совпадает.
+     */
+    static final class Node {
+        final Object edit;
+        final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        Node(Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(null);
+
+    private static final MyPersistentVector<?> EMPTY =
+            new MyPersistentVector<>(0, 0, BITS, EMPTY_NODE, new Object[0]);
+
+    /**
+     Позиция первого элемента в дереве; ячейки левее origin не используются
+     */
+    private final int origin;
+
+    /**
+     Количество элементов
+     */
+    private final int size;
+
+    /**
+     Сдвиг индекса для корня: корень находится на уровне shift, листья — на уровне 0
+     */
+    private final int shift;
+
+    private final Node root;
+
+    /**
+     Хвост: последний лист, начинающийся с позиции origin + size - tail.length (кратной WIDTH);
+     не пуст, если список не пуст
+     */
+    private final Object[] tail;
+
+    private MyPersistentVector(int origin, int size, int shift, Node root, Object[] tail) {
+        this.origin = origin;
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Возвращает пустой список.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> MyPersistentVector<E> empty() {
+        return (MyPersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Возвращает список из указанных элементов.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // elements только читается и копируется в листы
+    public static <E> MyPersistentVector<E> of(E... elements) {
+        Builder<E> b = new Builder<>();
+        b.addArray(elements, 0, elements.length);
+        return b.build();
+    }
+
+    /**
+     * Возвращает список с элементами list. Листья заполняются блочным копированием из elementData.
+     * list не должен изменяться во время вызова.
+     */
+    public static <E> MyPersistentVector<E> fromMyArrayList(MyArrayList<? extends E> list) {
+        Builder<E> b = new Builder<>();
+        b.addArray(list.elementData, 0, list.size());
+        return b.build();
+    }
+
+    /**
+     * Возвращает построитель, начинающий с пустого списка.
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Возвращает построитель, начинающий с этой версии. Сама версия не изменяется.
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    // Доступ к узлам
+
+    /**
+     * Возвращает позицию в дереве, с которой начинается хвост.
+     */
+    private int tailBase() {
+        return origin + size - tail.length;
+    }
+
+    /**
+     * Возвращает лист, содержащий позицию a дерева; элемент находится в нем по индексу a & MASK.
+     */
+    private Object[] leafFor(int a) {
+        if (a >= tailBase())
+            return tail;
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = (Node) node.array[(a >>> level) & MASK];
+        return node.array;
+    }
+
+    /**
+     * Возвращает node, если им владеет edit, иначе его копию, принадлежащую edit.
+     * Для неизменяемых операций edit равен null, и узел копируется всегда.
+     */
+    private static Node editable(Object edit, Node node) {
+        if (edit != null && node.edit == edit)
+            return node;
+        return new Node(edit, node.array.clone());
+    }
+
+    /**
+     * Создает цепочку узлов от уровня level до листа node.
+     */
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0)
+            return node;
+        Node ret = new Node(edit);
+        ret.array[0] = newPath(edit, level - BITS, node);
+        return ret;
+    }
+
+    /**
+     * Вставляет заполненный лист tailNode в позицию tailBase поддерева parent уровня level.
+     */
+    private static Node pushTail(Object edit, int level, Node parent, Node tailNode, int tailBase) {
+        final Node ret = editable(edit, parent);
+        final int sub = (tailBase >>> level) & MASK;
+        final Node insert;
+        if (level == BITS) {
+            insert = tailNode;
+        } else {
+            final Node child = (Node) parent.array[sub];
+            insert = (child != null)
+                    ? pushTail(edit, level - BITS, child, tailNode, tailBase)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+        ret.array[sub] = insert;
+        return ret;
+    }
+
+    /**
+     * Заменяет элемент в позиции a поддерева node уровня level.
+     */
+    private static Node doAssoc(Object edit, int level, Node node, int a, Object e) {
+        final Node ret = editable(edit, node);
+        if (level == 0) {
+            ret.array[a & MASK] = e;
+        } else {
+            final int sub = (a >>> level) & MASK;
+            ret.array[sub] = doAssoc(edit, level - BITS, (Node) node.array[sub], a, e);
+        }
+        return ret;
+    }
+
+    /**
+     * Возвращает поддерево, в котором оставлены первые count позиций поддерева node уровня level.
+     * Копируются только узлы на правом краю.
+     */
+    private static Node takePrefix(Node node, int level, int count) {
+        if (count == (1L << (level + BITS)))
+            return node;
+        final Object[] arr = new Object[WIDTH];
+        if (level == 0) {
+            System.arraycopy(node.array, 0, arr, 0, count);
+        } else {
+            final int full = count >>> level;
+            final int rem = count & ((1 << level) - 1);
+            System.arraycopy(node.array, 0, arr, 0, full);
+            if (rem > 0)
+                arr[full] = takePrefix((Node) node.array[full], level - BITS, rem);
+        }
+        return new Node(null, arr);
+    }
+
+    /**
+     * Возвращает поддерево, в котором обнулены первые count позиций поддерева node уровня level,
+     * чтобы отрезанные элементы не удерживались в памяти. Копируются только узлы на левом краю.
+     */
+    private static Node dropPrefix(Node node, int level, int count) {
+        final Object[] arr = node.array.clone();
+        if (level == 0) {
+            Arrays.fill(arr, 0, count, null);
+        } else {
+            final int full = count >>> level;
+            final int rem = count & ((1 << level) - 1);
+            Arrays.fill(arr, 0, full, null);
+            if (rem > 0)
+                arr[full] = dropPrefix((Node) arr[full], level - BITS, rem);
+        }
+        return new Node(null, arr);
+    }
+
+    // Чтение
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        final int a = origin + index;
+        return (E) leafFor(a)[a & MASK];
+    }
+
+    /**
+     * Копирует элементы в dst, начиная с dst[0], по листам.
+     */
+    private void copyTo(Object[] dst) {
+        for (int a = origin, end = origin + size, i = 0; a < end; ) {
+            final int off = a & MASK;
+            final int n = Math.min(WIDTH - off, end - a);
+            System.arraycopy(leafFor(a), off, dst, i, n);
+            a += n;
+            i += n;
+        }
+    }
+
+    public Object[] toArray() {
+        final Object[] r = new Object[size];
+        copyTo(r);
+        return r;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        if (a.length < size)
+            a = (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+        copyTo(a);
+        if (a.length > size)
+            a[size] = null;
+        return a;
+    }
+
+    /**
+     * Возвращает MyArrayList с теми же элементами: один массив ровно из size ячеек,
+     * заполненный блочным копированием листов.
+     */
+    public MyArrayList<E> toMyArrayList() {
+        return new MyArrayList<>(toArray(), size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int a = origin, end = origin + size; a < end; ) {
+            final Object[] leaf = leafFor(a);
+            for (int i = a & MASK, n = Math.min(WIDTH, i + end - a); i < n; i++, a++)
+                action.accept((E) leaf[i]);
+        }
+    }
+
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Итератор, переходящий по дереву один раз на лист.
+     */
+    private class Itr implements Iterator<E> {
+        int cursor;
+        Object[] leaf;
+        int leafEnd;
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E next() {
+            final int i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            final int a = origin + i;
+            if (i >= leafEnd) {
+                leaf = leafFor(a);
+                leafEnd = i + WIDTH - (a & MASK);
+            }
+            cursor = i + 1;
+            return (E) leaf[a & MASK];
+        }
+    }
+
+    // Новые версии
+
+    /**
+     * Возвращает версию с элементом e в конце.
+     *
+     * @throws OutOfMemoryError если дерево уже занимает Integer.MAX_VALUE позиций
+     */
+    public MyPersistentVector<E> plus(E e) {
+        final int end = origin + size;
+        if (end == Integer.MAX_VALUE)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика: " + ((long) size + 1));
+        if (tail.length < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = e;
+            return new MyPersistentVector<>(origin, size + 1, shift, root, newTail);
+        }
+        // хвост заполнен: переносим его в дерево и начинаем новый
+        final Node tailNode = new Node(null, tail);
+        final Node newRoot;
+        int newShift = shift;
+        if ((end >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, shift, root, tailNode, end - WIDTH);
+        }
+        return new MyPersistentVector<>(origin, size + 1, newShift, newRoot, new Object[] { e });
+    }
+
+    /**
+     * Возвращает версию, в которой элемент по индексу index заменен на e.
+     */
+    public MyPersistentVector<E> with(int index, E e) {
+        Objects.checkIndex(index, size);
+        final int a = origin + index;
+        if (a >= tailBase()) {
+            final Object[] newTail = tail.clone();
+            newTail[a & MASK] = e;
+            return new MyPersistentVector<>(origin, size, shift, root, newTail);
+        }
+        return new MyPersistentVector<>(origin, size, shift, doAssoc(null, shift, root, a, e), tail);
+    }
+
+    /**
+     * Возвращает версию из элементов [fromIndex, toIndex) этой версии.
+     * Корень опускается до наименьшего поддерева, содержащего диапазон, а узлы на краях копируются
+     * с обнуленными ссылками за пределами диапазона.
+     */
+    public MyPersistentVector<E> slice(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == 0 && toIndex == size)
+            return this;
+        if (fromIndex == toIndex)
+            return empty();
+
+        final int start = origin + fromIndex;
+        final int end = origin + toIndex;
+        final int newTailBase = (end - 1) & ~MASK;
+        final int from = Math.max(start, newTailBase);
+        final Object[] newTail = new Object[end - newTailBase];
+        System.arraycopy(leafFor(newTailBase), from & MASK, newTail, from - newTailBase, end - from);
+        if (start >= newTailBase) {
+            // весь диапазон в хвосте: дерево пусто, хвост начинается с позиции 0
+            return new MyPersistentVector<>(start - newTailBase, toIndex - fromIndex, BITS, EMPTY_NODE, newTail);
+        }
+
+        // Опускаем корень, пока позиции [start, newTailBase) лежат в одном его ребенке
+        Node r = root;
+        int s = shift;
+        int base = 0;
+        while (s > BITS) {
+            final int sub = (start - base) >>> s;
+            if (sub != ((newTailBase - 1 - base) >>> s))
+                break;
+            r = (Node) r.array[sub];
+            base += sub << s;
+            s -= BITS;
+        }
+        r = takePrefix(r, s, newTailBase - base);
+        if (start > base)
+            r = dropPrefix(r, s, start - base);
+        return new MyPersistentVector<>(start - base, toIndex - fromIndex, s, r, newTail);
+    }
+
+    /**
+     * Возвращает версию, в которой за элементами этой версии следуют элементы other.
+     * Дерево этой версии разделяется, элементы other дописываются блоками по листу.
+     */
+    @SuppressWarnings("unchecked")
+    public MyPersistentVector<E> concat(MyPersistentVector<? extends E> other) {
+        if (other.size == 0)
+            return this;
+        if (size == 0)
+            return (MyPersistentVector<E>) other;
+        Builder<E> b = toBuilder();
+        b.addVector(other);
+        return b.build();
+    }
+
+    /**
+     * Построитель для пакетного создания версий.
+     *
+     * Узлы, созданные построителем, изменяются им на месте; узлы, разделяемые с версиями,
+     * копируются при первом изменении. {@link #build()} выпускает версию за O(1) (копируется только хвост),
+     * после чего построитель можно продолжать использовать: узлы выпущенной версии для него снова чужие.
+     *
+     * Построитель не потокобезопасен.
+     */
+    public static final class Builder<E> {
+        private Object edit = new Object();
+        private int origin;
+        private int size;
+        private int shift;
+        private Node root;
+        /**
+         Хвост длины WIDTH, которым построитель всегда владеет; занято tailCount ячеек
+         */
+        private Object[] tail;
+        private int tailCount;
+
+        Builder() {
+            shift = BITS;
+            root = EMPTY_NODE;
+            tail = new Object[WIDTH];
+        }
+
+        Builder(MyPersistentVector<E> v) {
+            origin = v.origin;
+            size = v.size;
+            shift = v.shift;
+            root = v.root;
+            tail = Arrays.copyOf(v.tail, WIDTH);
+            tailCount = v.tail.length;
+        }
+
+        /**
+         * Возвращает количество элементов.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Возвращает элемент по индексу index.
+         */
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            final int a = origin + index;
+            if (a >= origin + size - tailCount)
+                return (E) tail[a & MASK];
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS)
+                node = (Node) node.array[(a >>> level) & MASK];
+            return (E) node.array[a & MASK];
+        }
+
+        /**
+         * Заменяет элемент по индексу index.
+         */
+        public Builder<E> set(int index, E e) {
+            Objects.checkIndex(index, size);
+            final int a = origin + index;
+            if (a >= origin + size - tailCount)
+                tail[a & MASK] = e;
+            else
+                root = doAssoc(edit, shift, root, a, e);
+            return this;
+        }
+
+        /**
+         * Добавляет элемент в конец.
+         */
+        public Builder<E> add(E e) {
+            if (origin + size == Integer.MAX_VALUE)
+                throw new OutOfMemoryError("Требуемая емкость слишком велика: " + ((long) size + 1));
+            if (tailCount == WIDTH)
+                pushTail();
+            tail[tailCount++] = e;
+            size++;
+            return this;
+        }
+
+        /**
+         * Добавляет элементы коллекции в конец в порядке ее итератора.
+         */
+        @SuppressWarnings("unchecked")
+        public Builder<E> addAll(Collection<? extends E> c) {
+            if (c instanceof MyPersistentVector) {
+                addVector((MyPersistentVector<? extends E>) c);
+            } else {
+                final Object[] a = c.toArray();
+                addArray(a, 0, a.length);
+            }
+            return this;
+        }
+
+        /**
+         * Переносит заполненный хвост в дерево.
+         */
+        private void pushTail() {
+            final int end = origin + size;
+            final Node tailNode = new Node(edit, tail);
+            if ((end >>> BITS) > (1 << shift)) {
+                final Node newRoot = new Node(edit);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = MyPersistentVector.pushTail(edit, shift, root, tailNode, end - WIDTH);
+            }
+            tail = new Object[WIDTH];
+            tailCount = 0;
+        }
+
+        /**
+         * Добавляет элементы src[from, from + n) блоками до заполнения хвоста.
+         */
+        void addArray(Object[] src, int from, int n) {
+            if (n > Integer.MAX_VALUE - (origin + size))
+                throw new OutOfMemoryError("Требуемая емкость слишком велика: " + ((long) size + n));
+            while (n > 0) {
+                if (tailCount == WIDTH)
+                    pushTail();
+                final int k = Math.min(n, WIDTH - tailCount);
+                System.arraycopy(src, from, tail, tailCount, k);
+                tailCount += k;
+                size += k;
+                from += k;
+                n -= k;
+            }
+        }
+
+        /**
+         * Добавляет элементы v, копируя их лист за листом.
+         */
+        void addVector(MyPersistentVector<? extends E> v) {
+            for (int a = v.origin, end = v.origin + v.size; a < end; ) {
+                final int off = a & MASK;
+                final int n = Math.min(WIDTH - off, end - a);
+                addArray(v.leafFor(a), off, n);
+                a += n;
+            }
+        }
+
+        /**
+         * Возвращает версию с текущими элементами построителя.
+         */
+        public MyPersistentVector<E> build() {
+            if (size == 0)
+                return empty();
+            final MyPersistentVector<E> v =
+                    new MyPersistentVector<>(origin, size, shift, root, Arrays.copyOf(tail, tailCount));
+            // узлы, изменявшиеся до сих пор на месте, теперь принадлежат v
+            edit = new Object();
+            return v;
+        }
+    }
+
+    // Сериализация
+
+    /**
+     * Сериализуется через SerializationProxy: поля версии final, и readObject не смог бы их восстановить.
+     */
+    @java.io.Serial
+    private Object writeReplace() {
+        return new SerializationProxy(toArray());
+    }
+
+    @java.io.Serial
+    private void readObject(java.io.ObjectInputStream s) throws java.io.InvalidObjectException {
+        throw new java.io.InvalidObjectException("Ожидался SerializationProxy");
+    }
+
+    private static final class SerializationProxy implements java.io.Serializable {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] elements;
+
+        SerializationProxy(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @java.io.Serial
+        private Object readResolve() {
+            return of(elements);
+        }
+    }
+}
@@ -0,0 +1,507 @@
+package ru.skypro;
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * Потокобезопасный MyArrayList для таблиц, которые в основном читают.
+ *
+ * Элементы хранятся во внутреннем MyArrayList под защитой StampedLock. Чтение (get, size,
+ * indexOf, lastIndexOf, contains, toArray, copyRange) сначала выполняется оптимистично:
+ * без записи в разделяемую память читается elementData и size, результат проверяется
+ * через validate и только при конкурентной записи чтение повторяется под блокировкой чтения.
+ * Операции по диапазону и массовые чтения проверяют штамп один раз на вызов, а не на каждый элемент.
+ *
+ * Все изменения выполняются под блокировкой записи. Итераторы, spliterator и forEach
+ * работают со снимком, полученным при их создании, и не бросают ConcurrentModificationException;
+ * изменения через итератор не поддерживаются. Представления subList, унаследованные от AbstractList,
+ * обращаются к списку через get и set и по modCount обнаруживают конкурентные структурные изменения.
+ *
+ * StampedLock не реентерабелен. Функции, передаваемые в removeIf, replaceAll, sort и mutate,
+ * а также equals/hashCode элементов и contains коллекций, передаваемых в removeAll и retainAll,
+ * вызываются под блокировкой записи и не должны обращаться к этому списку (в том числе через его
+ * subList): такое обращение заблокирует поток навсегда. Вызовы removeAll(this) и retainAll(this)
+ * обрабатываются отдельно.
+ */
+public class MyStampedArrayList<E> extends AbstractList<E>
+        implements List<E>, RandomAccess
+{
+    /**
+     Блокировка, защищающая list
+     */
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     Элементы списка. При оптимистичном чтении поля list читаются без блокировки
+     и используются только после успешного validate
+     */
+    private final MyArrayList<E> list;
+
+    /**
+     * Создает пустой список с начальной емкостью 10.
+     */
+    public MyStampedArrayList() {
+        list = new MyArrayList<>();
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     */
+    public MyStampedArrayList(int initialCapacity) {
+        list = new MyArrayList<>(initialCapacity);
+    }
+
+    /**
+     * Создает список, содержащий элементы указанной коллекции
+     * в том порядке, в котором они были возвращены итератором
+     */
+    public MyStampedArrayList(Collection<? extends E> c) {
+        list = new MyArrayList<>(c);
+    }
+
+    // Операции чтения
+
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        final int s = list.size();
+        if (lock.validate(stamp))
+            return s;
+        stamp = lock.readLock();
+        try {
+            return list.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу. Без конкурентной записи не берет блокировку.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            final Object[] es = list.elementData;
+            final int s = list.size();
+            // es мог быть прочитан до перевыделения: проверяем и его длину
+            if (index >= 0 && index < s && index < es.length) {
+                final Object e = es[index];
+                if (lock.validate(stamp))
+                    return (E) e;
+            } else if (lock.validate(stamp)) {
+                Objects.checkIndex(index, s);
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return list.get(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента или -1. Штамп проверяется один раз после просмотра.
+     */
+    public int indexOf(Object o) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                final int i = indexOf(o, list.elementData, list.size());
+                if (lock.validate(stamp))
+                    return i;
+            } catch (RuntimeException ex) {
+                // equals мог увидеть несогласованные данные; исключение значимо, только если чтение корректно
+                if (lock.validate(stamp))
+                    throw ex;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return list.indexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента или -1. Штамп проверяется один раз после просмотра.
+     */
+    public int lastIndexOf(Object o) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                final int i = lastIndexOf(o, list.elementData, list.size());
+                if (lock.validate(stamp))
+                    return i;
+            } catch (RuntimeException ex) {
+                if (lock.validate(stamp))
+                    throw ex;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return list.lastIndexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static int indexOf(Object o, Object[] es, int size) {
+        final int end = Math.min(size, es.length);
+        if (o == null) {
+            for (int i = 0; i < end; i++)
+                if (es[i] == null)
+                    return i;
+        } else {
+            for (int i = 0; i < end; i++)
+                if (o.equals(es[i]))
+                    return i;
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(Object o, Object[] es, int size) {
+        if (o == null) {
+            for (int i = Math.min(size, es.length) - 1; i >= 0; i--)
+                if (es[i] == null)
+                    return i;
+        } else {
+            for (int i = Math.min(size, es.length) - 1; i >= 0; i--)
+                if (o.equals(es[i]))
+                    return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает массив с элементами списка. Копирование выполняется одним arraycopy
+     * и проверяется одним validate.
+     */
+    public Object[] toArray() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            final Object[] es = list.elementData;
+            final int s = list.size();
+            if (s <= es.length) {
+                final Object[] a = Arrays.copyOf(es, s);
+                if (lock.validate(stamp))
+                    return a;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return list.toArray();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        final Object[] es = toArray();
+        if (a.length < es.length)
+            return (T[]) Arrays.copyOf(es, es.length, a.getClass());
+        System.arraycopy(es, 0, a, 0, es.length);
+        if (a.length > es.length)
+            a[es.length] = null;
+        return a;
+    }
+
+    /**
+     * Возвращает согласованную копию элементов в диапазоне [fromIndex, toIndex) в виде нового MyArrayList.
+     */
+    public MyArrayList<E> copyRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("From Index: " + fromIndex + ", To Index: " + toIndex);
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            final Object[] es = list.elementData;
+            final int s = list.size();
+            if (toIndex <= s && s <= es.length) {
+                final Object[] a = Arrays.copyOfRange(es, fromIndex, toIndex);
+                if (lock.validate(stamp))
+                    return new MyArrayList<>(a, a.length);
+            } else if (lock.validate(stamp)) {
+                throw new IndexOutOfBoundsException("To Index: " + toIndex + ", Size: " + s);
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            final int s = list.size();
+            if (toIndex > s)
+                throw new IndexOutOfBoundsException("To Index: " + toIndex + ", Size: " + s);
+            final Object[] a = Arrays.copyOfRange(list.elementData, fromIndex, toIndex);
+            return new MyArrayList<>(a, a.length);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Выполняет действие для каждого элемента снимка списка. Действие вызывается без блокировки.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object e : toArray())
+            action.accept((E) e);
+    }
+
+    /**
+     * Возвращает итератор по снимку списка на момент вызова.
+     * Итератор не бросает ConcurrentModificationException и не поддерживает remove.
+     */
+    public Iterator<E> iterator() {
+        return new MyCopyOnWriteArrayList.COWIterator<>(toArray(), 0);
+    }
+
+    public ListIterator<E> listIterator() {
+        return new MyCopyOnWriteArrayList.COWIterator<>(toArray(), 0);
+    }
+
+    public ListIterator<E> listIterator(int index) {
+        final Object[] es = toArray();
+        if (index < 0 || index > es.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + es.length);
+        return new MyCopyOnWriteArrayList.COWIterator<>(es, index);
+    }
+
+    /**
+     * Возвращает spliterator по снимку списка на момент вызова.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        return Arrays.asList(toArray()).equals(o);
+    }
+
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // Операции записи
+
+    public E set(int index, E element) {
+        final long stamp = lock.writeLock();
+        try {
+            return list.set(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean add(E e) {
+        final long stamp = lock.writeLock();
+        try {
+            list.add(e);
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void add(int index, E element) {
+        final long stamp = lock.writeLock();
+        try {
+            list.add(index, element);
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public E remove(int index) {
+        final long stamp = lock.writeLock();
+        try {
+            final E oldValue = list.remove(index);
+            modCount++;
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(Object o) {
+        final long stamp = lock.writeLock();
+        try {
+            return modified(list.remove(o));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        final long stamp = lock.writeLock();
+        try {
+            list.clear();
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет элементы из диапазона [fromIndex, toIndex) одним сдвигом под блокировкой записи.
+     * Через этот метод работает clear() представлений subList.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        final long stamp = lock.writeLock();
+        try {
+            if (fromIndex < 0 || toIndex > list.size())
+                throw new IndexOutOfBoundsException("From Index: " + fromIndex + ", To Index: " + toIndex);
+            list.removeRange(fromIndex, toIndex);
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Добавляет элементы коллекции в конец списка. Массив элементов c получается до взятия блокировки.
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        final List<? extends E> snapshot = Arrays.asList(toArray(c));
+        final long stamp = lock.writeLock();
+        try {
+            return modified(list.addAll(snapshot));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean addAll(int index, Collection<? extends E> c) {
+        final List<? extends E> snapshot = Arrays.asList(toArray(c));
+        final long stamp = lock.writeLock();
+        try {
+            return modified(list.addAll(index, snapshot));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E[] toArray(Collection<? extends E> c) {
+        return (E[]) c.toArray();
+    }
+
+    /**
+     * Удаляет элементы, содержащиеся в c. removeAll(this) очищает список, не вызывая c.contains
+     * под блокировкой записи.
+     */
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        final long stamp = lock.writeLock();
+        try {
+            if (c == this) {
+                final boolean modified = !list.isEmpty();
+                list.clear();
+                return modified(modified);
+            }
+            return modified(list.removeAll(c));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Оставляет только элементы, содержащиеся в c. retainAll(this) ничего не меняет и не берет блокировку.
+     */
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        if (c == this)
+            return false;
+        final long stamp = lock.writeLock();
+        try {
+            return modified(list.retainAll(c));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет элементы, удовлетворяющие filter. Фильтр вызывается под блокировкой записи
+     * и не должен обращаться к этому списку.
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        final long stamp = lock.writeLock();
+        try {
+            return modified(list.removeIf(filter));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Заменяет каждый элемент результатом operator. Функция вызывается под блокировкой записи
+     * и не должна обращаться к этому списку.
+     */
+    public void replaceAll(UnaryOperator<E> operator) {
+        final long stamp = lock.writeLock();
+        try {
+            list.replaceAll(operator);
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Сортирует список. Компаратор вызывается под блокировкой записи и не должен обращаться к этому списку.
+     */
+    public void sort(Comparator<? super E> c) {
+        final long stamp = lock.writeLock();
+        try {
+            list.sort(c);
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Выполняет несколько изменений под одним захватом блокировки записи.
+     * Действие получает внутренний MyArrayList и не должно сохранять ссылку на него
+     * или обращаться к этому списку. Считается структурным изменением для представлений subList.
+     */
+    public void mutate(Consumer<? super MyArrayList<E>> action) {
+        Objects.requireNonNull(action);
+        final long stamp = lock.writeLock();
+        try {
+            modCount++;
+            action.accept(list);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Учитывает структурное изменение, если оно произошло; вызывается под блокировкой записи.
+     */
+    private boolean modified(boolean modified) {
+        if (modified)
+            modCount++;
+        return modified;
+    }
+}
@@ -0,0 +1,179 @@
+package ru.skypro;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Накопитель для многопоточного добавления в конец без конкуренции между потоками.
+ *
+ * Каждый поток при первом вызове {@link #add(Object)} получает собственный сегмент MyArrayList
+ * и дальше добавляет только в него: добавление не пишет в разделяемую память и не берет блокировок.
+ * Когда все добавляющие потоки завершили работу, {@link #seal()} запрещает дальнейшие добавления,
+ * а {@link #merge()} собирает сегменты в один MyArrayList: массив результата выделяется один раз
+ * по суммарному размеру, и каждый сегмент копируется в него одним arraycopy.
+ *
+ * В упорядоченном режиме (см. {@link #ordered()}) порядковым номером элемента служит его позиция
+ * в сегменте своего потока, а номером полосы (stripe) — порядок создания сегмента. merge расставляет
+ * элементы по паре (номер, полоса): сначала первые элементы всех потоков, затем вторые и т.д.
+ * Номера не требуют общего счетчика, поэтому добавление и в этом режиме не пишет в разделяемую память.
+ *
+ * Сегменты связаны с потоками внутри накопителя, а не через ThreadLocal, поэтому потоки пула
+ * не удерживают элементы после того, как накопитель стал недостижим.
+ *
+ * Вызывающий код должен обеспечить, что добавления во всех потоках завершены до merge
+ * (например, через Thread.join или завершение задач исполнителя); seal только обнаруживает
+ * добавления после запечатывания.
+ */
+public class MyStripedAppender<E> {
+
+    /**
+     Сегменты всех потоков, когда-либо добавлявших элементы, в порядке создания. Пополняется один раз на поток
+     */
+    private final MyCopyOnWriteArrayList<MyArrayList<E>> segments = new MyCopyOnWriteArrayList<>();
+
+    /**
+     Сегменты по потокам. Запись для потока добавляет только сам этот поток
+     */
+    private final ConcurrentHashMap<Thread, MyArrayList<E>> byThread = new ConcurrentHashMap<>();
+
+    private final boolean ordered;
+
+    private volatile boolean sealed;
+
+    /**
+     * Создает неупорядоченный накопитель: после merge элементы одного потока идут подряд
+     * в порядке добавления, а сегменты разных потоков — в порядке их создания.
+     */
+    public MyStripedAppender() {
+        this(false);
+    }
+
+    private MyStripedAppender(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    /**
+     * Создает упорядоченный накопитель: merge чередует элементы потоков по их номерам
+     * в своих сегментах, сохраняя порядок добавления внутри каждого потока.
+     */
+    public static <E> MyStripedAppender<E> ordered() {
+        return new MyStripedAppender<>(true);
+    }
+
+    /**
+     * Возвращает true, если накопитель работает в упорядоченном режиме.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Возвращает сегмент текущего потока, создавая его при первом добавлении.
+     */
+    private MyArrayList<E> segment() {
+        final Thread t = Thread.currentThread();
+        MyArrayList<E> s = byThread.get(t);
+        if (s == null) {
+            s = new MyArrayList<>();
+            segments.add(s);
+            byThread.put(t, s);
+        }
+        return s;
+    }
+
+    /**
+     * Добавляет элемент в сегмент текущего потока.
+     *
+     * @throws IllegalStateException если накопитель запечатан
+     */
+    public boolean add(E e) {
+        if (sealed)
+            throw new IllegalStateException("Накопитель запечатан");
+        return segment().add(e);
+    }
+
+    /**
+     * Добавляет элементы коллекции в сегмент текущего потока в порядке их итератора.
+     * В упорядоченном режиме каждый элемент получает собственный номер, как при add.
+     *
+     * @throws IllegalStateException если накопитель запечатан
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        if (sealed)
+            throw new IllegalStateException("Накопитель запечатан");
+        return segment().addAll(c);
+    }
+
+    /**
+     * Запрещает дальнейшие добавления. Повторный вызов ничего не делает.
+     */
+    public void seal() {
+        sealed = true;
+    }
+
+    /**
+     * Возвращает true, если накопитель запечатан.
+     */
+    public boolean isSealed() {
+        return sealed;
+    }
+
+    /**
+     * Возвращает количество сегментов (потоков, добавивших хотя бы один элемент).
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Возвращает суммарное количество элементов. Точно только после завершения добавлений.
+     */
+    public long size() {
+        long n = 0;
+        for (MyArrayList<E> s : segments)
+            n += s.size();
+        return n;
+    }
+
+    /**
+     * Запечатывает накопитель и собирает все сегменты в новый MyArrayList.
+     * Сегменты не изменяются, поэтому merge можно вызвать повторно.
+     *
+     * @throws OutOfMemoryError если суммарный размер превышает предельную длину массива
+     */
+    public MyArrayList<E> merge() {
+        seal();
+        final long total = size();
+        if (total > Integer.MAX_VALUE - 8)
+            throw new OutOfMemoryError("Требуемая емкость слишком велика: " + total);
+        final Object[] result = new Object[(int) total];
+        if (!ordered) {
+            int pos = 0;
+            for (MyArrayList<E> s : segments) {
+                final int n = s.size();
+                System.arraycopy(s.elementData, 0, result, pos, n);
+                pos += n;
+            }
+        } else {
+            // Проход по номерам: на шаге i берется i-й элемент каждой еще не исчерпанной полосы.
+            // Исчерпанные полосы вычеркиваются со сдвигом, поэтому каждый сегмент просматривается
+            // size + 1 раз, а порядок полос сохраняется
+            final Object[] live = segments.toArray();
+            int liveCount = live.length;
+            int pos = 0;
+            for (int i = 0; liveCount > 0; i++) {
+                int w = 0;
+                for (int j = 0; j < liveCount; j++) {
+                    @SuppressWarnings("unchecked")
+                    final MyArrayList<E> s = (MyArrayList<E>) live[j];
+                    if (i < s.size()) {
+                        result[pos++] = s.elementData[i];
+                        live[w++] = s;
+                    }
+                }
+                liveCount = w;
+            }
+        }
+        return new MyArrayList<>(result, result.length);
+    }
+}
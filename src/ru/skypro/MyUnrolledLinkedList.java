@@ -0,0 +1,871 @@
+package ru.skypro;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Развернутый (unrolled) вариант MyLinkedList: каждый узел хранит не один элемент,
+ * а небольшой массив элементов. Это снижает накладные расходы на элемент
+ * и количество переходов по ссылкам при обходе и позиционном доступе,
+ * сохраняя API List и Deque, как у MyLinkedList.
+ *
+ * Переполненный узел делится пополам при вставке, а опустевший наполовину
+ * узел поглощает следующий при удалении.
+ */
+public class MyUnrolledLinkedList<E>
+        extends AbstractSequentialList<E>
+        implements List<E>, Deque<E>, Cloneable, java.io.Serializable
+{
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Емкость узла по умолчанию.
+     */
+    static final int DEFAULT_NODE_CAPACITY = 32;
+
+    /**
+     * Минимально допустимая емкость узла.
+     */
+    private static final int MIN_NODE_CAPACITY = 4;
+
+    /**
+     * Емкость массива элементов в каждом узле.
+     */
+    private final int nodeCapacity;
+
+    transient int size = 0;
+
+    /**
+     * Указатель на первый узел.
+     */
+    transient Node<E> first;
+
+    /**
+     * Указатель на последний узел.
+     */
+    transient Node<E> last;
+
+    /**
+     * Создание пустого списка с емкостью узла по умолчанию.
+     */
+    public MyUnrolledLinkedList() {
+        this.nodeCapacity = DEFAULT_NODE_CAPACITY;
+    }
+
+    /**
+     * Создание пустого списка с указанной емкостью узла.
+     *
+     * @throws IllegalArgumentException если nodeCapacity меньше 4
+     */
+    public MyUnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY)
+            throw new IllegalArgumentException("Некорректное значение: " + nodeCapacity);
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Создает список, содержащий элементы указанной коллекции
+     * в том порядке, в котором они были возвращены итератором.
+     */
+    public MyUnrolledLinkedList(Collection<? extends E> c) {
+        this();
+        addAll(c);
+    }
+
+    /**
+     * Возвращает емкость узла списка.
+     */
+    public int nodeCapacity() {
+        return nodeCapacity;
+    }
+
+    /**
+     * Создает новый пустой узел и вставляет его после pred (или в начало списка, если pred == null).
+     */
+    private Node<E> linkNodeAfter(Node<E> pred) {
+        final Node<E> succ = (pred == null) ? first : pred.next;
+        final Node<E> newNode = new Node<>(pred, nodeCapacity, succ);
+        if (pred == null)
+            first = newNode;
+        else
+            pred.next = newNode;
+        if (succ == null)
+            last = newNode;
+        else
+            succ.prev = newNode;
+        return newNode;
+    }
+
+    /**
+     * Исключает узел x из цепочки узлов.
+     */
+    private void unlinkNode(Node<E> x) {
+        final Node<E> next = x.next;
+        final Node<E> prev = x.prev;
+        if (prev == null)
+            first = next;
+        else {
+            prev.next = next;
+            x.prev = null;
+        }
+        if (next == null)
+            last = prev;
+        else {
+            next.prev = prev;
+            x.next = null;
+        }
+    }
+
+    /**
+     * Делает ссылку на e как на первый элемент.
+     */
+    private void linkFirst(E e) {
+        Node<E> f = first;
+        if (f == null || f.count == nodeCapacity)
+            f = linkNodeAfter(null);
+        else
+            System.arraycopy(f.items, 0, f.items, 1, f.count);
+        f.items[0] = e;
+        f.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Делает ссылку на e как на последний элемент.
+     */
+    void linkLast(E e) {
+        Node<E> l = last;
+        if (l == null || l.count == nodeCapacity)
+            l = linkNodeAfter(l);
+        l.items[l.count++] = e;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Вставляет элемент e в узел x на позицию offset (0 <= offset <= x.count).
+     * Если узел заполнен, он делится пополам: верхняя половина переносится в новый узел.
+     * Возвращает узел, в который попал элемент; если это не x, то смещение элемента в нем равно offset - x.count.
+     */
+    Node<E> insertAt(Node<E> x, int offset, E e) {
+        Node<E> target = x;
+        if (x.count == nodeCapacity) {
+            final int half = nodeCapacity >>> 1;
+            final Node<E> y = linkNodeAfter(x);
+            final int moved = x.count - half;
+            System.arraycopy(x.items, half, y.items, 0, moved);
+            Arrays.fill(x.items, half, x.count, null);
+            x.count = half;
+            y.count = moved;
+            if (offset > half) {
+                target = y;
+                offset -= half;
+            }
+        }
+        System.arraycopy(target.items, offset, target.items, offset + 1, target.count - offset);
+        target.items[offset] = e;
+        target.count++;
+        size++;
+        modCount++;
+        return target;
+    }
+
+    /**
+     * Удаляет элемент из узла x на позиции offset.
+     * Опустевший узел исключается из списка; узел, заполненный меньше чем наполовину,
+     * поглощает следующий узел, если их элементы помещаются в три четверти емкости.
+     * Предыдущие узлы никогда не поглощают x, поэтому элементы после offset остаются в x
+     * или переходят в x.next.
+     */
+    E removeAt(Node<E> x, int offset) {
+        final E element = x.items[offset];
+        final int numMoved = x.count - offset - 1;
+        if (numMoved > 0)
+            System.arraycopy(x.items, offset + 1, x.items, offset, numMoved);
+        x.items[--x.count] = null;
+        if (x.count == 0) {
+            unlinkNode(x);
+        } else {
+            final Node<E> n = x.next;
+            if (n != null && x.count < (nodeCapacity >>> 1)
+                    && x.count + n.count <= nodeCapacity - (nodeCapacity >>> 2)) {
+                System.arraycopy(n.items, 0, x.items, x.count, n.count);
+                x.count += n.count;
+                Arrays.fill(n.items, 0, n.count, null);
+                n.count = 0;
+                unlinkNode(n);
+            }
+        }
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Возвращает первый элемент в списке.
+     */
+    public E getFirst() {
+        final Node<E> f = first;
+        if (f == null)
+            throw new NoSuchElementException();
+        return f.items[0];
+    }
+
+    /**
+     * Возвращает последний элемент в списке.
+     */
+    public E getLast() {
+        final Node<E> l = last;
+        if (l == null)
+            throw new NoSuchElementException();
+        return l.items[l.count - 1];
+    }
+
+    /**
+     * Удаляет и возвращает первый элемент из списка.
+     */
+    public E removeFirst() {
+        final Node<E> f = first;
+        if (f == null)
+            throw new NoSuchElementException();
+        return removeAt(f, 0);
+    }
+
+    /**
+     * Удаляет и возвращает последний элемент из списка.
+     */
+    public E removeLast() {
+        final Node<E> l = last;
+        if (l == null)
+            throw new NoSuchElementException();
+        return removeAt(l, l.count - 1);
+    }
+
+    /**
+     * Вставляет указанный элемент в начало списка.
+     */
+    public void addFirst(E e) {
+        linkFirst(e);
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка.
+     */
+    public void addLast(E e) {
+        linkLast(e);
+    }
+
+    /**
+     * Возвращает true, если в списке содержится указанный элемент.
+     */
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Возвращает размер списка.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка.
+     */
+    public boolean add(E e) {
+        linkLast(e);
+        return true;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из списка (если таковой присутствует в списке).
+     * Если в списке отсутствует указанный элемент, список не меняется.
+     */
+    public boolean remove(Object o) {
+        for (Node<E> x = first; x != null; x = x.next) {
+            final Object[] es = x.items;
+            for (int i = 0, n = x.count; i < n; i++) {
+                if (Objects.equals(o, es[i])) {
+                    removeAt(x, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Добавляет все элементы передаваемого списка в конец списка, метод для которого был вызван,
+     * заполняя узлы целиком.
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] a = c.toArray();
+        int numNew = a.length;
+        if (numNew == 0)
+            return false;
+        Node<E> l = last;
+        int i = 0;
+        while (i < numNew) {
+            if (l == null || l.count == nodeCapacity)
+                l = linkNodeAfter(l);
+            int n = Math.min(nodeCapacity - l.count, numNew - i);
+            System.arraycopy(a, i, l.items, l.count, n);
+            l.count += n;
+            i += n;
+        }
+        size += numNew;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы из списка.
+     * Список будет пустым после вызова return этого метода.
+     */
+    public void clear() {
+        for (Node<E> x = first; x != null; ) {
+            Node<E> next = x.next;
+            Arrays.fill(x.items, 0, x.count, null);
+            x.count = 0;
+            x.next = null;
+            x.prev = null;
+            x = next;
+        }
+        first = last = null;
+        size = 0;
+        modCount++;
+    }
+
+
+    // Операции позиционного доступа
+
+    /**
+     * Возвращает элемент по указанному индексу в списке.
+     */
+    public E get(int index) {
+        checkElementIndex(index);
+        ListItr it = new ListItr(index);
+        return it.next.items[it.nextOffset];
+    }
+
+    /**
+     * Заменяет элемент списка по указанному индексу на указанный элемент.
+     */
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        ListItr it = new ListItr(index);
+        final Object[] es = it.next.items;
+        @SuppressWarnings("unchecked") E oldVal = (E) es[it.nextOffset];
+        es[it.nextOffset] = element;
+        return oldVal;
+    }
+
+    /**
+     * Вставляет указанный элемент element в указанную позицию index в этом списке.
+     * Сдвигает элементы списка, начиная с текущей указанной позиции index, вправо.
+     */
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        if (index == size)
+            linkLast(element);
+        else
+            new ListItr(index).add(element);
+    }
+
+    /**
+     * Удаляет элемент в указанной позиции index в списке.
+     * Возвращает элемент, который был удален из списка.
+     */
+    public E remove(int index) {
+        checkElementIndex(index);
+        ListItr it = new ListItr(index);
+        return removeAt(it.next, it.nextOffset);
+    }
+
+    /**
+     * Сообщает, является ли аргумент индексом существующего элемента.
+     */
+    private boolean isElementIndex(int index) {
+        return index >= 0 && index < size;
+    }
+
+    /**
+     * Сообщает, является ли аргумент индексом допустимой позиции для итератора или операции добавления.
+     */
+    private boolean isPositionIndex(int index) {
+        return index >= 0 && index <= size;
+    }
+
+    /**
+     * Создает подробное сообщение IndexOutOfBoundsException.
+     */
+    private String outOfBoundsMsg(int index) {
+        return "Index: "+index+", Size: "+size;
+    }
+
+    private void checkElementIndex(int index) {
+        if (!isElementIndex(index))
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    private void checkPositionIndex(int index) {
+        if (!isPositionIndex(index))
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    // Операции поиска
+
+    /**
+     * Возвращает индекс первого появления указанного элемента в списке или -1, если список не содержит элемента.
+     */
+    public int indexOf(Object o) {
+        int base = 0;
+        for (Node<E> x = first; x != null; x = x.next) {
+            final Object[] es = x.items;
+            final int n = x.count;
+            if (o == null) {
+                for (int i = 0; i < n; i++)
+                    if (es[i] == null)
+                        return base + i;
+            } else {
+                for (int i = 0; i < n; i++)
+                    if (o.equals(es[i]))
+                        return base + i;
+            }
+            base += n;
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения указанного элемента в списке или -1, если этот список не содержит элемента.
+     */
+    public int lastIndexOf(Object o) {
+        int base = size;
+        for (Node<E> x = last; x != null; x = x.prev) {
+            final Object[] es = x.items;
+            base -= x.count;
+            if (o == null) {
+                for (int i = x.count - 1; i >= 0; i--)
+                    if (es[i] == null)
+                        return base + i;
+            } else {
+                for (int i = x.count - 1; i >= 0; i--)
+                    if (o.equals(es[i]))
+                        return base + i;
+            }
+        }
+        return -1;
+    }
+
+    // Операции очереди.
+
+    /**
+     * Извлекает, но не удаляет заголовок (первый элемент) списка или возвращает null, если список пуст.
+     */
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Извлекает, но не удаляет заголовок (первый элемент) списка.
+     */
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Извлекает и удаляет заголовок (первый элемент) списка или возвращает null, если список пуст.
+     */
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Извлекает и удаляет заголовок (первый элемент) списка.
+     */
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Добавляет указанный элемент в качестве последнего элемента списка.
+     */
+    public boolean offer(E e) {
+        return add(e);
+    }
+
+    // Операции двунаправленной очереди
+
+    /**
+     * Вставляет указанный элемент в начало списка.
+     */
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    /**
+     * Вставляет указанный элемент в конец списка.
+     */
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Извлекает, но не удаляет первый элемент списка или возвращает null, если список пуст.
+     */
+    public E peekFirst() {
+        final Node<E> f = first;
+        return (f == null) ? null : f.items[0];
+    }
+
+    /**
+     * Извлекает, но не удаляет, последний элемент списка или возвращает null, если список пуст.
+     */
+    public E peekLast() {
+        final Node<E> l = last;
+        return (l == null) ? null : l.items[l.count - 1];
+    }
+
+    /**
+     * Извлекает и удаляет первый элемент списка или возвращает null, если список пуст.
+     */
+    public E pollFirst() {
+        final Node<E> f = first;
+        return (f == null) ? null : removeAt(f, 0);
+    }
+
+    /**
+     * Извлекает и удаляет последний элемент списка или возвращает значение null, если список пуст.
+     */
+    public E pollLast() {
+        final Node<E> l = last;
+        return (l == null) ? null : removeAt(l, l.count - 1);
+    }
+
+    /**
+     * Помещает элемент в стек, представленный списком. Эквивалентен addFirst.
+     */
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    /**
+     * Извлекает элемент из стека, представленного списком. Эквивалентен removeFirst().
+     */
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента в списке (при обходе списка от начала до конца).
+     */
+    public boolean removeFirstOccurrence(Object o) {
+        return remove(o);
+    }
+
+    /**
+     * Удаляет последнее вхождение указанного элемента в списке (при обходе списка от начала до конца).
+     */
+    public boolean removeLastOccurrence(Object o) {
+        for (Node<E> x = last; x != null; x = x.prev) {
+            final Object[] es = x.items;
+            for (int i = x.count - 1; i >= 0; i--) {
+                if (Objects.equals(o, es[i])) {
+                    removeAt(x, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает список-итератор элементов в этом списке (в правильной последовательности),
+     * начиная с указанной позиции в списке.
+     */
+    public ListIterator<E> listIterator(int index) {
+        checkPositionIndex(index);
+        return new ListItr(index);
+    }
+
+    /**
+     * Итератор хранит позицию следующего элемента как пару (узел, смещение в узле).
+     * Смещение всегда меньше количества элементов в узле; next == null означает конец списка.
+     */
+    private class ListItr implements ListIterator<E> {
+        private Node<E> next;
+        private int nextOffset;
+        private int nextIndex;
+        private Node<E> lastNode;
+        private int lastOffset;
+        private int expectedModCount = modCount;
+
+        /**
+         * Позиционирует итератор, пропуская узлы целиком с ближайшего конца списка.
+         */
+        ListItr(int index) {
+            nextIndex = index;
+            if (index == size) {
+                next = null;
+            } else if (index < (size >> 1)) {
+                Node<E> x = first;
+                while (index >= x.count) {
+                    index -= x.count;
+                    x = x.next;
+                }
+                next = x;
+                nextOffset = index;
+            } else {
+                Node<E> x = last;
+                int base = size - x.count;
+                while (index < base) {
+                    x = x.prev;
+                    base -= x.count;
+                }
+                next = x;
+                nextOffset = index - base;
+            }
+        }
+
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        public E next() {
+            checkForComodification();
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            lastNode = next;
+            lastOffset = nextOffset;
+            if (++nextOffset == next.count) {
+                next = next.next;
+                nextOffset = 0;
+            }
+            nextIndex++;
+            return lastNode.items[lastOffset];
+        }
+
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+
+            if (next != null && nextOffset > 0) {
+                nextOffset--;
+            } else {
+                next = (next == null) ? last : next.prev;
+                nextOffset = next.count - 1;
+            }
+            lastNode = next;
+            lastOffset = nextOffset;
+            nextIndex--;
+            return lastNode.items[lastOffset];
+        }
+
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        public void remove() {
+            checkForComodification();
+            if (lastNode == null)
+                throw new IllegalStateException();
+
+            final Node<E> x = lastNode;
+            final int off = lastOffset;
+            final Node<E> after = x.next;
+            final boolean removedBeforeCursor = (next != x || nextOffset != off);
+            removeAt(x, off);
+            // Следующий элемент теперь либо в x на месте удаленного, либо в начале следующего узла
+            if (x.count == 0) {
+                next = after;
+                nextOffset = 0;
+            } else if (off < x.count) {
+                next = x;
+                nextOffset = off;
+            } else {
+                next = x.next;
+                nextOffset = 0;
+            }
+            if (removedBeforeCursor)
+                nextIndex--;
+            lastNode = null;
+            expectedModCount = modCount;
+        }
+
+        public void set(E e) {
+            if (lastNode == null)
+                throw new IllegalStateException();
+            checkForComodification();
+            lastNode.items[lastOffset] = e;
+        }
+
+        public void add(E e) {
+            checkForComodification();
+            lastNode = null;
+            final Node<E> x = next;
+            if (x == null) {
+                linkLast(e);
+            } else if (nextOffset == 0 && x.prev != null && x.prev.count < nodeCapacity) {
+                // Есть место в конце предыдущего узла: вставка без сдвига элементов
+                final Node<E> p = x.prev;
+                p.items[p.count++] = e;
+                size++;
+                modCount++;
+            } else {
+                final int off = nextOffset;
+                final Node<E> n = insertAt(x, off, e);
+                final int o = (n == x) ? off + 1 : off - x.count + 1;
+                if (o < n.count) {
+                    next = n;
+                    nextOffset = o;
+                } else {
+                    next = n.next;
+                    nextOffset = 0;
+                }
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            while (modCount == expectedModCount && nextIndex < size) {
+                action.accept(next.items[nextOffset]);
+                lastNode = next;
+                lastOffset = nextOffset;
+                if (++nextOffset == next.count) {
+                    next = next.next;
+                    nextOffset = 0;
+                }
+                nextIndex++;
+            }
+            checkForComodification();
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    private static class Node<E> {
+        final E[] items;
+        int count;
+        Node<E> next;
+        Node<E> prev;
+
+        @SuppressWarnings("unchecked")
+        Node(Node<E> prev, int capacity, Node<E> next) {
+            this.items = (E[]) new Object[capacity];
+            this.next = next;
+            this.prev = prev;
+        }
+    }
+
+    public Iterator<E> descendingIterator() {
+        return new DescendingIterator();
+    }
+
+    /**
+     * Адаптер для предоставления нисходящих итераторов через ListItr.previous
+     */
+    private class DescendingIterator implements Iterator<E> {
+        private final ListItr itr = new ListItr(size());
+        public boolean hasNext() {
+            return itr.hasPrevious();
+        }
+        public E next() {
+            return itr.previous();
+        }
+        public void remove() {
+            itr.remove();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private MyUnrolledLinkedList<E> superClone() {
+        try {
+            return (MyUnrolledLinkedList<E>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Возвращает поверхностную копию списка. (Сами элементы не клонируются.)
+     */
+    public Object clone() {
+        MyUnrolledLinkedList<E> clone = superClone();
+
+        // Перевести клон в первоначальное состояние
+        clone.first = clone.last = null;
+        clone.size = 0;
+        clone.modCount = 0;
+
+        // Инициализация клона с нашими элементами
+        clone.addAll(this);
+
+        return clone;
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы в списке в правильной последовательности.
+     * Элементы копируются поузлово через System.arraycopy.
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int i = 0;
+        for (Node<E> x = first; x != null; x = x.next) {
+            System.arraycopy(x.items, 0, result, i, x.count);
+            i += x.count;
+        }
+        return result;
+    }
+
+    /**
+     * Сохраняет состояние списка в поток.
+     */
+    @java.io.Serial
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        s.defaultWriteObject();
+
+        s.writeInt(size);
+
+        for (Node<E> x = first; x != null; x = x.next)
+            for (int i = 0; i < x.count; i++)
+                s.writeObject(x.items[i]);
+    }
+
+    /**
+     * Восстанавливает список из потока.
+     */
+    @java.io.Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+
+        int size = s.readInt();
+        if (size < 0)
+            throw new java.io.InvalidObjectException("Некорректный размер: " + size);
+
+        for (int i = 0; i < size; i++)
+            linkLast((E) s.readObject());
+    }
+}
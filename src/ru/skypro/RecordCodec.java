@@ -0,0 +1,68 @@
+package ru.skypro;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек записей фиксированной длины для MyOffHeapList.
+ *
+ * Кодек читает и пишет запись по абсолютному смещению в буфере
+ * и не должен менять position/limit буфера.
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Возвращает длину одной записи в байтах (больше нуля).
+     */
+    int recordSize();
+
+    /**
+     * Записывает value в buffer, начиная с байта offset.
+     */
+    void write(T value, ByteBuffer buffer, int offset);
+
+    /**
+     * Читает запись из buffer, начиная с байта offset.
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Читает запись в существующий объект reuse, если кодек это поддерживает, и возвращает его.
+     * По умолчанию создает новый объект через read.
+     */
+    default T readInto(ByteBuffer buffer, int offset, T reuse) {
+        return read(buffer, offset);
+    }
+
+    /**
+     * Кодек для Integer (4 байта).
+     */
+    static RecordCodec<Integer> ofInt() {
+        return new RecordCodec<>() {
+            public int recordSize() { return Integer.BYTES; }
+            public void write(Integer value, ByteBuffer buffer, int offset) { buffer.putInt(offset, value); }
+            public Integer read(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+        };
+    }
+
+    /**
+     * Кодек для Long (8 байт).
+     */
+    static RecordCodec<Long> ofLong() {
+        return new RecordCodec<>() {
+            public int recordSize() { return Long.BYTES; }
+            public void write(Long value, ByteBuffer buffer, int offset) { buffer.putLong(offset, value); }
+            public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+        };
+    }
+
+    /**
+     * Кодек для Double (8 байт).
+     */
+    static RecordCodec<Double> ofDouble() {
+        return new RecordCodec<>() {
+            public int recordSize() { return Double.BYTES; }
+            public void write(Double value, ByteBuffer buffer, int offset) { buffer.putDouble(offset, value); }
+            public Double read(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+        };
+    }
+}